@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 옷 일괄 등록 처리량 비교 (rows/s, 10000 개 기준)
+# batch-size 1 (행마다 왕복) 과 기본값(500)을 같은 데이터로 비교한다.
+#
+# 사용법: TOKEN=<JWT> scripts/bench-import.sh [옷 수] [카테고리 id]
+#   예) TOKEN=eyJ... scripts/bench-import.sh 10000 5
+#
+# 필요: curl, python3, 실행 중인 MariaDB, Java 21, TOKEN 사용자 (벤치마크 옷이 그대로 남으므로 테스트 계정 사용)
+set -euo pipefail
+
+COUNT=${1:-10000}
+CATEGORY_ID=${2:-5}
+PORT=${PORT:-8082}
+BASE="http://localhost:${PORT}"
+: "${TOKEN:?TOKEN (JWT) 필요}"
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+PAYLOAD=build/bench-import.json
+
+python3 - "$COUNT" "$CATEGORY_ID" > "$PAYLOAD" <<'PY'
+import json, sys
+count, category = int(sys.argv[1]), int(sys.argv[2])
+tags = [["sunny"], ["rainy"], ["windy", "cloudy"], []]
+print(json.dumps({"clothes": [
+    {"categoryId": category, "name": f"bench-{i}", "brand": "bench", "color": "black",
+     "tempMin": i % 20 - 5, "tempMax": i % 20 + 10,
+     "weatherTags": tags[i % len(tags)], "styleTags": ["casual"]}
+    for i in range(count)]}))
+PY
+
+run() {
+    local label=$1; shift
+    java -jar "$JAR" --server.port="$PORT" "$@" > "build/bench-import-${label}.log" 2>&1 &
+    local pid=$!
+    trap 'kill '"$pid"' 2>/dev/null || true' EXIT
+    
+    until curl -sf "${BASE}/actuator/health" > /dev/null; do sleep 1; done
+    
+    local seconds
+    seconds=$(curl -sf -o /dev/null -w '%{time_total}' -X POST "${BASE}/api/clothes/import" \
+        -H "Authorization: Bearer ${TOKEN}" -H 'Content-Type: application/json' --data-binary "@${PAYLOAD}")
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+    
+    printf "%-12s %8d rows %8.2fs %10.0f rows/s\n" "$label" "$COUNT" "$seconds" \
+        "$(python3 -c "print(${COUNT} / ${seconds})")"
+}
+
+echo "rows=${COUNT} category=${CATEGORY_ID}"
+run row-by-row --wardrobe.import.batch-size=1
+run batched
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Refresh Token 회전 처리량 (refresh/s)
+# 회전하면 이전 토큰을 다시 쓸 수 없으므로, 동시접속 수만큼 로그인해 각자 토큰을 이어 가며 회전한다.
+#
+# 사용법: EMAIL=<이메일> PASSWORD=<비밀번호> scripts/bench-refresh.sh [동시접속] [접속당 회전 수]
+#   예) EMAIL=bench@example.com PASSWORD=... scripts/bench-refresh.sh 32 500
+#
+# 필요: curl, python3, 실행 중인 MariaDB, Java 21, 테스트 계정
+set -euo pipefail
+
+CONCURRENCY=${1:-16}
+ROUNDS=${2:-200}
+PORT=${PORT:-8082}
+BASE="http://localhost:${PORT}"
+: "${EMAIL:?EMAIL 필요}"
+: "${PASSWORD:?PASSWORD 필요}"
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+java -jar "$JAR" --server.port="$PORT" > build/bench-refresh.log 2>&1 &
+PID=$!
+trap 'kill '"$PID"' 2>/dev/null || true' EXIT
+until curl -sf "${BASE}/actuator/health" > /dev/null; do sleep 1; done
+
+python3 - "$BASE" "$EMAIL" "$PASSWORD" "$CONCURRENCY" "$ROUNDS" <<'PY'
+import json, sys, time, urllib.request
+from concurrent.futures import ThreadPoolExecutor
+
+base, email, password, concurrency, rounds = sys.argv[1], sys.argv[2], sys.argv[3], int(sys.argv[4]), int(sys.argv[5])
+
+def post(path, body):
+    request = urllib.request.Request(base + path, json.dumps(body).encode(), {"Content-Type": "application/json"})
+    with urllib.request.urlopen(request) as response:
+        return json.loads(response.read())
+
+def chain(_):
+    token = post("/api/auth/login", {"email": email, "password": password})["refreshToken"]
+    latencies = []
+    for _ in range(rounds):
+        start = time.perf_counter()
+        token = post("/api/auth/refresh", {"refreshToken": token})["refreshToken"]
+        latencies.append(time.perf_counter() - start)
+    return latencies
+
+start = time.perf_counter()
+with ThreadPoolExecutor(concurrency) as pool:
+    latencies = sorted(l for chain_latencies in pool.map(chain, range(concurrency)) for l in chain_latencies)
+elapsed = time.perf_counter() - start
+print(f"concurrency={concurrency} refreshes={len(latencies)}")
+print(f"{len(latencies) / elapsed:10.0f} refresh/s   p50 {latencies[len(latencies) // 2] * 1000:.1f}ms"
+      f"   p99 {latencies[int(len(latencies) * 0.99)] * 1000:.1f}ms")
+PY
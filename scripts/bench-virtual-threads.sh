@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# 가상 스레드 모드 부하 비교 (처리량, p99 지연)
+#
+# 사용법: scripts/bench-virtual-threads.sh [경로] [동시접속] [요청수]
+#   예) scripts/bench-virtual-threads.sh "/api/weather?lat=37.5665&lon=126.9780" 400 40000
+#
+# 필요: hey (https://github.com/rakyll/hey), curl, 실행 중인 MariaDB, Java 21
+set -euo pipefail
+
+TARGET_PATH=${1:-"/api/weather?lat=37.5665&lon=126.9780"}
+CONCURRENCY=${2:-200}
+REQUESTS=${3:-20000}
+PORT=${PORT:-8082}
+BASE="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+run() {
+    local label=$1; shift
+    java -jar "$JAR" --server.port="$PORT" "$@" > "build/bench-${label}.log" 2>&1 &
+    local pid=$!
+    trap 'kill '"$pid"' 2>/dev/null || true' EXIT
+    
+    until curl -sf "${BASE}/actuator/health" > /dev/null; do sleep 1; done
+    hey -n 1000 -c 50 "${BASE}${TARGET_PATH}" > /dev/null   # 워밍업
+    
+    local out
+    out=$(hey -n "$REQUESTS" -c "$CONCURRENCY" "${BASE}${TARGET_PATH}")
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+    
+    local rps p99
+    rps=$(echo "$out" | awk '/Requests\/sec/ {print $2}')
+    p99=$(echo "$out" | awk '/99% in/ {print $3}')
+    printf "%-10s %12s req/s   p99 %ss\n" "$label" "$rps" "$p99"
+}
+
+echo "path=${TARGET_PATH} concurrency=${CONCURRENCY} requests=${REQUESTS}"
+run platform
+run virtual --spring.profiles.active=virtual-threads
@@ -0,0 +1,63 @@
+package kr.salm.closet.service.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 필터 조회 처리량 (Refresh Token 회전 한 번당 한 번 조회, 10만 개 폐기 상태)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevokedTokenFilterBenchmark {
+    
+    private static final int REVOKED = 100_000;
+    private static final int PROBES = 4096;
+    
+    private RevokedTokenFilter filter;
+    private byte[][] probes;
+    
+    @Setup
+    public void setUp() throws Exception {
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        Random random = new Random(42);
+        filter = new RevokedTokenFilter(REVOKED, 0.01);
+        for (int i = 0; i < REVOKED; i++) {
+            filter.add(sha256.digest(("revoked-" + i).getBytes()));
+        }
+        // 절반은 폐기된 토큰, 절반은 유효한 토큰
+        probes = new byte[PROBES][];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = sha256.digest((i % 2 == 0 ? "revoked-" + random.nextInt(REVOKED) : "live-" + i).getBytes());
+        }
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public boolean mightContain(Cursor cursor) {
+        return filter.mightContain(probes[cursor.index++ & (PROBES - 1)]);
+    }
+    
+    // 스레드별 조회 위치
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+}
@@ -0,0 +1,134 @@
+package kr.salm.closet.service.weather;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WMO 코드 매핑 비교: 기존 switch 4회 vs WeatherCodeTable 조회 1회
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherCodeTableBenchmark {
+    
+    // 실제 응답에 나오는 코드 분포 (범위 밖 코드 포함)
+    private static final int[] CODES = {0, 1, 2, 3, 45, 48, 51, 53, 55, 56, 57, 61, 63, 65, 66, 67,
+            71, 73, 75, 77, 80, 81, 82, 85, 86, 95, 96, 99, 100};
+    
+    private int[] codes;
+    private boolean[] days;
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        codes = new int[1024];
+        days = new boolean[1024];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = CODES[random.nextInt(CODES.length)];
+            days[i] = random.nextBoolean();
+        }
+    }
+    
+    @Benchmark
+    public void switchMapping(Blackhole blackhole) {
+        int i = next();
+        int code = codes[i];
+        blackhole.consume(mapWeatherCode(code));
+        blackhole.consume(mapWeatherType(code));
+        blackhole.consume(getWeatherDescription(code));
+        blackhole.consume(getWeatherIcon(code, days[i]));
+    }
+    
+    @Benchmark
+    public WeatherCondition tableLookup() {
+        int i = next();
+        return WeatherCodeTable.of(codes[i], days[i]);
+    }
+    
+    private int next() {
+        return index = (index + 1) & (codes.length - 1);
+    }
+    
+    // 이하 기존 OpenMeteoClient 매핑 (비교 기준)
+    private static String mapWeatherCode(int code) {
+        return switch (code) {
+            case 0 -> "Clear";
+            case 1, 2, 3 -> "Clouds";
+            case 45, 48 -> "Fog";
+            case 51, 53, 55, 56, 57 -> "Drizzle";
+            case 61, 63, 65, 66, 67 -> "Rain";
+            case 71, 73, 75, 77 -> "Snow";
+            case 80, 81, 82 -> "Rain";
+            case 85, 86 -> "Snow";
+            case 95, 96, 99 -> "Thunderstorm";
+            default -> "Clear";
+        };
+    }
+    
+    private static String mapWeatherType(int code) {
+        return switch (code) {
+            case 0, 1 -> "CLEAR";
+            case 2, 3, 45, 48 -> "CLOUDY";
+            case 51, 53, 55, 56, 57, 61, 63, 65, 66, 67, 80, 81, 82, 95, 96, 99 -> "RAINY";
+            case 71, 73, 75, 77, 85, 86 -> "SNOWY";
+            default -> "CLEAR";
+        };
+    }
+    
+    private static String getWeatherDescription(int code) {
+        return switch (code) {
+            case 0 -> "맑음";
+            case 1 -> "대체로 맑음";
+            case 2 -> "부분적으로 흐림";
+            case 3 -> "흐림";
+            case 45 -> "안개";
+            case 48 -> "짙은 안개";
+            case 51 -> "가벼운 이슬비";
+            case 53 -> "이슬비";
+            case 55 -> "강한 이슬비";
+            case 61 -> "약한 비";
+            case 63 -> "비";
+            case 65 -> "강한 비";
+            case 71 -> "약한 눈";
+            case 73 -> "눈";
+            case 75 -> "강한 눈";
+            case 80 -> "약한 소나기";
+            case 81 -> "소나기";
+            case 82 -> "강한 소나기";
+            case 95 -> "뇌우";
+            case 96, 99 -> "우박을 동반한 뇌우";
+            default -> "맑음";
+        };
+    }
+    
+    private static String getWeatherIcon(int code, boolean isDay) {
+        return switch (code) {
+            case 0 -> isDay ? "☀️" : "🌙";
+            case 1, 2 -> isDay ? "🌤️" : "☁️";
+            case 3 -> "☁️";
+            case 45, 48 -> "🌫️";
+            case 51, 53, 55, 61, 63, 65, 80, 81, 82 -> "🌧️";
+            case 56, 57, 66, 67 -> "🌨️";
+            case 71, 73, 75, 77, 85, 86 -> "❄️";
+            case 95, 96, 99 -> "⛈️";
+            default -> isDay ? "☀️" : "🌙";
+        };
+    }
+}
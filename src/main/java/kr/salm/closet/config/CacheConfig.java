@@ -1,18 +0,0 @@
-package kr.salm.closet.config;
-
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-@EnableCaching
-public class CacheConfig {
-    
-    @Bean
-    public CacheManager cacheManager() {
-        // 간단한 인메모리 캐시 (프로덕션에서는 Redis 추천)
-        return new ConcurrentMapCacheManager("weather");
-    }
-}
@@ -0,0 +1,58 @@
+package kr.salm.closet.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.salm.closet.service.auth.LoginAttemptLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 실패 제한에 걸린 로그인 요청은 비밀번호 해시 전에 거절
+ * - 폼 로그인(/login): IP + username 파라미터, 로그인 페이지로 돌려보냄
+ * - API 로그인(/api/auth/login): IP 만 (이메일은 JSON 본문이라 AuthService 에서), 429 + Retry-After
+ * IP 는 getRemoteAddr(): 프록시 뒤에서는 server.forward-headers-strategy 와 신뢰 프록시 설정으로 실제 클라이언트 IP
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoginThrottleFilter extends OncePerRequestFilter {
+    
+    private final LoginAttemptLimiter limiter;
+    private final String loginPath;
+    private final String failureUrl;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !loginPath.equals(request.getServletPath());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String email = failureUrl != null ? request.getParameter("username") : null;
+        Optional<Duration> blocked = limiter.blockedFor(email, request.getRemoteAddr());
+        if (blocked.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        log.debug("Login throttled: ip={}", request.getRemoteAddr());
+        if (failureUrl != null) {
+            response.sendRedirect(request.getContextPath() + failureUrl);
+            return;
+        }
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, blocked.get().toSeconds())));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+}
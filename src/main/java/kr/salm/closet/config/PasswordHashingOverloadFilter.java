@@ -0,0 +1,48 @@
+package kr.salm.closet.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.salm.closet.service.auth.PasswordHashingOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 해시 풀 포화로 로그인을 처리하지 못하면 바로 503 + Retry-After
+ * 폼 로그인(보안 필터)과 API 로그인(컨트롤러) 모두 이 필터까지 예외가 올라온다.
+ */
+@Slf4j
+public class PasswordHashingOverloadFilter extends OncePerRequestFilter {
+    
+    private static final String RETRY_AFTER_SECONDS = "1";
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+            if (!isOverload(e) || response.isCommitted()) {
+                throw e;
+            }
+            log.warn("Login shed, password hashing saturated: {}", request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+    
+    private static boolean isOverload(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingOverloadedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,8 +1,12 @@
 package kr.salm.closet.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.salm.closet.config.jwt.JwtAuthenticationFilter;
 import kr.salm.closet.config.jwt.JwtTokenProvider;
+import kr.salm.closet.service.auth.LoginAttemptLimiter;
+import kr.salm.closet.service.auth.OffloadedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -21,7 +25,9 @@ import org.springframework.security.web.header.writers.XXssProtectionHeaderWrite
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -31,10 +37,19 @@ import java.util.List;
 public class SecurityConfig {
     
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginAttemptLimiter loginAttemptLimiter;
     
+    // BCrypt 는 전용 풀에서 실행 (요청 스레드 CPU 보호), strength 를 바꾸면 로그인 성공 시 해시가 새 비용으로 갱신된다
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);  // 강도 12
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.hashing.bcrypt-strength:12}") int strength,
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.hashing.wait-timeout:2s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new OffloadedPasswordEncoder(new BCryptPasswordEncoder(strength),
+                poolSize, queueCapacity, waitTimeout, meterRegistry);
     }
     
     @Bean
@@ -56,10 +71,14 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/weather/**").permitAll()
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
                 UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new PasswordHashingOverloadFilter(), CorsFilter.class)
+            .addFilterBefore(new LoginThrottleFilter(loginAttemptLimiter, "/api/auth/login", null),
+                UsernamePasswordAuthenticationFilter.class)
             .headers(headers -> headers
                 .xssProtection(xss -> xss.headerValue(XXssProtectionHeaderWriter.HeaderValue.ENABLED_MODE_BLOCK))
                 .contentSecurityPolicy(csp -> csp.policyDirectives("default-src 'self'"))
@@ -82,11 +101,14 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/", "/login", "/register", "/error",
                     "/css/**", "/js/**", "/images/**", "/favicon.ico",
-                    "/weather/**"
+                    "/weather/**", "/actuator/health"
                 ).permitAll()
-                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**", "/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(new PasswordHashingOverloadFilter(), CorsFilter.class)
+            .addFilterBefore(new LoginThrottleFilter(loginAttemptLimiter, "/login", "/login?error=true"),
+                UsernamePasswordAuthenticationFilter.class)
             .formLogin(form -> form
                 .loginPage("/login")
                 .loginProcessingUrl("/login")
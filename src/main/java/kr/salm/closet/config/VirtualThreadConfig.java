@@ -0,0 +1,41 @@
+package kr.salm.closet.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21)
+ * Tomcat 요청 처리, @Async/@Scheduled 는 Spring Boot 가 가상 스레드로 전환한다.
+ * 여기서는 DB 커넥션 풀 앞에 동시성 제한을 둬서 커넥션 고갈을 막는다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+    
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment env) {
+        int maxConcurrent = env.getProperty("db.concurrency.max-concurrent", Integer.class,
+                env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration acquireTimeout = env.getProperty("db.concurrency.acquire-timeout", Duration.class,
+                Duration.ofSeconds(30));
+        
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.info("Limiting DataSource '{}' to {} concurrent connections", beanName, maxConcurrent);
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
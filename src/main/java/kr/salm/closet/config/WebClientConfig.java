@@ -0,0 +1,40 @@
+package kr.salm.closet.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+    
+    // Open-Meteo 공용 WebClient (커넥션 풀 공유, 요청마다 새로 만들지 않음)
+    @Bean
+    public WebClient openMeteoWebClient(
+            WebClient.Builder builder,
+            @Value("${weather.api.max-connections:50}") int maxConnections,
+            @Value("${weather.api.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${weather.api.response-timeout:10s}") Duration responseTimeout) {
+        ConnectionProvider provider = ConnectionProvider.builder("open-meteo")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+        
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .compress(true);
+        
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
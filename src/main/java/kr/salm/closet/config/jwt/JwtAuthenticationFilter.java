@@ -27,8 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = jwtTokenProvider.resolveToken(request);
             
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            Authentication auth = token != null ? jwtTokenProvider.authenticate(token) : null;
+            if (auth != null) {
                 SecurityContextHolder.getContext().setAuthentication(auth);
                 log.debug("Set Authentication for user: {}", auth.getName());
             }
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
@@ -17,12 +18,18 @@ import org.springframework.util.StringUtils;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     
+    // 같은 키로 서명하므로 토큰 종류를 클레임으로 구분 (refresh 토큰을 access 로, 반대로 쓰지 못하게)
+    private static final String TYPE_CLAIM = "typ";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+    
     @Value("${jwt.secret}")
     private String secretString;
     
@@ -33,11 +40,15 @@ public class JwtTokenProvider {
     private long refreshTokenExpiration;
     
     private SecretKey secretKey;
+    // 스레드 안전, 요청마다 만들지 않고 재사용
+    private JwtParser parser;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
     
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
     }
     
     // Access Token 생성
@@ -49,40 +60,54 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .claims(claims)
                 .claim("role", role)
+                .claim(TYPE_CLAIM, ACCESS_TYPE)
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
     
-    // Refresh Token 생성
+    // Refresh Token 생성 (jti 로 같은 초에 여러 번 발급해도 토큰/해시가 겹치지 않음)
     public String createRefreshToken(String email) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenExpiration);
         
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
     
-    // 토큰에서 인증 정보 조회
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getEmail(token));
-        return new UsernamePasswordAuthenticationToken(
-                userDetails, "", userDetails.getAuthorities());
+    /**
+     * 토큰 검증 + 인증 정보 (유효하지 않거나 access 토큰이 아니면 null)
+     * 검증된 토큰은 만료 시각까지 캐시해서 다음 요청은 서명 검증/사용자 조회 없이 처리한다.
+     */
+    public Authentication authenticate(String token) {
+        Authentication cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parseAccessClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        long verifiedAt = verifiedTokenCache.startVerification();
+        Authentication authentication = authenticationOf(claims.getSubject());
+        Date expiration = claims.getExpiration();
+        verifiedTokenCache.put(token, authentication,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE, verifiedAt);
+        return authentication;
     }
     
-    // 토큰에서 이메일 추출
-    public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    // 캐시에 두므로 비밀번호 해시는 빼고 보관
+    private Authentication authenticationOf(String email) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        UserDetails principal = new User(userDetails.getUsername(), "", userDetails.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
     
     // Request Header에서 토큰 추출
@@ -94,14 +119,32 @@ public class JwtTokenProvider {
         return null;
     }
     
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
+    // access 토큰 클레임 (유효하지 않거나 다른 종류면 null)
+    private Claims parseAccessClaims(String token) {
+        return parseClaims(token, ACCESS_TYPE);
+    }
+    
+    // refresh 토큰 클레임 (유효하지 않거나 다른 종류면 null)
+    public Claims parseRefreshClaims(String token) {
+        return parseClaims(token, REFRESH_TYPE);
+    }
+    
+    private Claims parseClaims(String token, String type) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        if (!type.equals(claims.get(TYPE_CLAIM, String.class))) {
+            log.warn("JWT token type mismatch: expected {}", type);
+            return null;
+        }
+        return claims;
+    }
+    
+    // 서명/만료 검증 후 클레임 (유효하지 않으면 null)
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("Invalid JWT signature");
         } catch (ExpiredJwtException e) {
@@ -111,7 +154,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty");
         }
-        return false;
+        return null;
     }
     
     public long getRefreshTokenExpiration() {
@@ -0,0 +1,135 @@
+package kr.salm.closet.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Access Token → 인증 정보 캐시
+ * - 키는 토큰 SHA-256 (원문 토큰은 보관하지 않음)
+ * - 엔트리는 토큰 만료(exp) 또는 max-ttl 중 먼저 오는 시점에 만료 (권한 변경은 max-ttl 안에 반영)
+ * - 계정을 잠그거나 비활성화/삭제하는 쪽이 invalidateUser 로 해당 사용자 엔트리를 제거 (LoginAttemptListener 등)
+ * - 제거 시각을 사용자별로 남겨, 그 전에 검증을 시작한 요청이 뒤늦게 put 해도 캐시에 남지 않게 한다.
+ * 캐시 hit 이면 서명 검증(HMAC)과 users 조회 없이 인증된다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+    
+    private final Cache<String, Verified> cache;
+    // 이메일 → 마지막 invalidateUser 시각 (System.nanoTime), 진행 중인 검증보다 오래만 남기면 됨
+    private final Cache<String, Long> invalidatedAt;
+    private final long maxTtlNanos;
+    
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+                              @Value("${jwt.cache.max-ttl:10m}") Duration maxTtl,
+                              MeterRegistry meterRegistry) {
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override
+                    public long expireAfterCreate(String key, Verified value, long currentTime) {
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(
+                                value.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExp, maxTtlNanos));
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String key, Verified value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String key, Verified value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maxTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken", "cache.manager", "jwt");
+    }
+    
+    public Authentication get(String token) {
+        Verified verified = cache.getIfPresent(digest(token));
+        return verified == null ? null : verified.authentication();
+    }
+    
+    // 검증 시작 시각, 사용자 조회 전에 잡아서 put 에 넘긴다
+    public long startVerification() {
+        return System.nanoTime();
+    }
+    
+    /**
+     * 검증 결과 저장, verifiedAt 이후 invalidateUser 가 있었으면 저장하지 않는다.
+     * 넣은 뒤에 다시 확인 (removeUser 는 시각 기록 → 제거 순서라, 둘 중 하나는 반드시 상대를 본다)
+     */
+    public void put(String token, Authentication authentication, long expiresAtMillis, long verifiedAt) {
+        String key = digest(token);
+        cache.put(key, new Verified(authentication, expiresAtMillis));
+        if (invalidatedSince(authentication.getName(), verifiedAt)) {
+            cache.invalidate(key);
+        }
+    }
+    
+    private boolean invalidatedSince(String email, long verifiedAt) {
+        Long invalidated = invalidatedAt.getIfPresent(email);
+        return invalidated != null && invalidated - verifiedAt >= 0;
+    }
+    
+    /**
+     * 사용자의 모든 캐시 엔트리 제거 (잠금/비활성화/삭제 시)
+     * 사용자별 역인덱스 없이 전체를 훑지만, 상태 변경은 드문 일이라 충분하다.
+     * 트랜잭션 안이면 커밋 후 제거 (롤백되면 그대로 둠)
+     */
+    public void invalidateUser(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUser(email);
+                }
+            });
+        } else {
+            removeUser(email);
+        }
+    }
+    
+    private void removeUser(String email) {
+        invalidatedAt.put(email, System.nanoTime());
+        cache.asMap().values().removeIf(verified -> verified.authentication().getName().equals(email));
+        log.debug("Verified token cache invalidated: {}", email);
+    }
+    
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private record Verified(Authentication authentication, long expiresAtMillis) {}
+}
@@ -0,0 +1,76 @@
+package kr.salm.closet.controller.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kr.salm.closet.dto.LoginRequest;
+import kr.salm.closet.dto.RefreshTokenRequest;
+import kr.salm.closet.dto.TokenResponse;
+import kr.salm.closet.service.auth.AuthService;
+import kr.salm.closet.service.auth.LoginThrottledException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthApiController {
+    
+    private static final int MAX_DEVICE_INFO = 255;
+    
+    private final AuthService authService;
+    
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request,
+                                               HttpServletRequest servletRequest) {
+        try {
+            return authService.login(request.email(), request.password(),
+                            deviceInfo(servletRequest), servletRequest.getRemoteAddr())
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        } catch (LoginThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                    .build();
+        }
+    }
+    
+    // Refresh Token 회전 (응답의 새 Refresh Token 으로 교체, 이전 토큰은 다시 쓸 수 없음)
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request,
+                                                 HttpServletRequest servletRequest) {
+        return authService.refresh(request.refreshToken(),
+                        deviceInfo(servletRequest), servletRequest.getRemoteAddr())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+    
+    // 로그아웃 (Refresh Token 폐기)
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+    
+    // 모든 기기 로그아웃 (Access Token 필요)
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAll(@AuthenticationPrincipal UserDetails user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        authService.logoutAll(user.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+    
+    private static String deviceInfo(HttpServletRequest request) {
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        if (userAgent == null) {
+            return null;
+        }
+        return userAgent.length() > MAX_DEVICE_INFO ? userAgent.substring(0, MAX_DEVICE_INFO) : userAgent;
+    }
+}
@@ -0,0 +1,29 @@
+package kr.salm.closet.controller.api;
+
+import kr.salm.closet.dto.CategoryView;
+import kr.salm.closet.service.category.CategoryCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class CategoryApiController {
+    
+    private final CategoryCatalog categoryCatalog;
+    
+    // 카테고리 트리 (메모리 스냅샷, DB 조회 없음)
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategoryView>> getCategories() {
+        return ResponseEntity.ok(CategoryView.of(categoryCatalog.tree()));
+    }
+    
+    // DB 에서 직접 카테고리를 고친 뒤 스냅샷 다시 읽기 (관리자)
+    @PostMapping("/admin/categories/reload")
+    public ResponseEntity<List<CategoryView>> reloadCategories() {
+        return ResponseEntity.ok(CategoryView.of(categoryCatalog.reload()));
+    }
+}
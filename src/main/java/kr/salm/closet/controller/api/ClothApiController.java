@@ -0,0 +1,69 @@
+package kr.salm.closet.controller.api;
+
+import jakarta.validation.Valid;
+import kr.salm.closet.dto.CategoryClothes;
+import kr.salm.closet.dto.ClothImportRequest;
+import kr.salm.closet.dto.ClothView;
+import kr.salm.closet.dto.ImportResult;
+import kr.salm.closet.dto.KeysetPage;
+import kr.salm.closet.service.ClothService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/clothes")
+@RequiredArgsConstructor
+public class ClothApiController {
+    
+    private final ClothService clothService;
+    
+    // 내 옷 목록 (키셋 페이지, 다음 페이지는 after=nextCursor)
+    @GetMapping
+    public ResponseEntity<KeysetPage<ClothView>> getClothes(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(clothService.getClothesPage(user.getUsername(), after, size));
+    }
+    
+    // 내 옷 목록 (최상위 카테고리별)
+    @GetMapping("/by-category")
+    public ResponseEntity<List<CategoryClothes>> getClothesByCategory(@AuthenticationPrincipal UserDetails user) {
+        return ResponseEntity.ok(clothService.getWardrobe(user.getUsername()));
+    }
+    
+    // 태그로 내 옷 찾기 (예: ?weather=rainy&style=formal, 여러 값이면 모두 포함)
+    @GetMapping("/by-tags")
+    public ResponseEntity<List<ClothView>> getClothesByTags(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(defaultValue = "") List<String> weather,
+            @RequestParam(defaultValue = "") List<String> style) {
+        return ResponseEntity.ok(clothService.getClothesByTags(user.getUsername(), weather, style));
+    }
+    
+    // 옷 일괄 등록 (최대 10000 개)
+    @PostMapping("/import")
+    public ResponseEntity<ImportResult> importClothes(
+            @AuthenticationPrincipal UserDetails user,
+            @Valid @RequestBody ClothImportRequest request) {
+        return ResponseEntity.ok(clothService.importClothes(user.getUsername(), request));
+    }
+    
+    // 내 옷 전체 내보내기 (JSON 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal UserDetails user) {
+        String email = user.getUsername();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clothes.json\"")
+                .body(out -> clothService.exportClothes(email, out));
+    }
+}
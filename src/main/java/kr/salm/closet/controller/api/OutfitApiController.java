@@ -0,0 +1,95 @@
+package kr.salm.closet.controller.api;
+
+import jakarta.validation.Valid;
+import kr.salm.closet.dto.ImportResult;
+import kr.salm.closet.dto.KeysetPage;
+import kr.salm.closet.dto.OutfitFeedbackRequest;
+import kr.salm.closet.dto.OutfitImportRequest;
+import kr.salm.closet.dto.OutfitRecommendationResponse;
+import kr.salm.closet.dto.OutfitView;
+import kr.salm.closet.service.OutfitService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/outfits")
+@RequiredArgsConstructor
+public class OutfitApiController {
+    
+    private final OutfitService outfitService;
+    
+    // 내 코디 목록 (최신순 키셋 페이지, 다음 페이지는 before=nextCursor)
+    @GetMapping
+    public ResponseEntity<KeysetPage<OutfitView>> getOutfits(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long before,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(outfitService.getOutfitsPage(user.getUsername(), before, size));
+    }
+    
+    // 내 코디 전체 내보내기 (JSON 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal UserDetails user) {
+        String email = user.getUsername();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"outfits.json\"")
+                .body(out -> outfitService.exportOutfits(email, out));
+    }
+    
+    // 현재 날씨 기반 코디 추천
+    @GetMapping("/recommend")
+    public Mono<ResponseEntity<OutfitRecommendationResponse>> recommend(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(defaultValue = "37.5665") double lat,
+            @RequestParam(defaultValue = "126.9780") double lon,
+            @RequestParam(defaultValue = "3") int k) {
+        
+        return outfitService.recommend(user.getUsername(), lat, lon, k)
+                .map(response -> response.isSuccess()
+                        ? ResponseEntity.ok(response)
+                        : ResponseEntity.badRequest().body(response));
+    }
+    
+    // 코디 일괄 등록 (최대 2000 개, 내 옷이 아닌 clothId 는 무시)
+    @PostMapping("/import")
+    public ResponseEntity<ImportResult> importOutfits(
+            @AuthenticationPrincipal UserDetails user,
+            @Valid @RequestBody OutfitImportRequest request) {
+        
+        return ResponseEntity.ok(outfitService.importOutfits(user.getUsername(), request));
+    }
+    
+    // 코디 착용 기록 (모아서 주기적으로 기록하므로 202)
+    @PostMapping("/{id}/wear")
+    public ResponseEntity<Void> wear(
+            @AuthenticationPrincipal UserDetails user,
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        return outfitService.recordWear(user.getUsername(), id, date)
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.notFound().build();
+    }
+    
+    // 착용 후 체감 피드백 (이후 추천 온도 보정에 반영)
+    @PostMapping("/feedback")
+    public ResponseEntity<Void> feedback(
+            @AuthenticationPrincipal UserDetails user,
+            @Valid @RequestBody OutfitFeedbackRequest request) {
+        
+        return outfitService.recordFeedback(user.getUsername(), request)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.badRequest().build();
+    }
+}
@@ -1,10 +1,15 @@
 package kr.salm.closet.controller.api;
 
+import jakarta.validation.Valid;
+import kr.salm.closet.dto.WeatherBatchRequest;
 import kr.salm.closet.dto.WeatherResponse;
 import kr.salm.closet.service.WeatherService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/weather")
@@ -14,24 +19,32 @@ public class WeatherApiController {
     private final WeatherService weatherService;
     
     @GetMapping
-    public ResponseEntity<WeatherResponse> getWeather(
+    public Mono<ResponseEntity<WeatherResponse>> getWeather(
             @RequestParam double lat,
             @RequestParam double lon) {
         
-        WeatherResponse weather = weatherService.getCurrentWeather(lat, lon);
+        return weatherService.getCurrentWeatherAsync(lat, lon)
+                .map(this::toResponse);
+    }
+    
+    // 여러 위치 일괄 조회 (저장된 장소 목록 등)
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<WeatherResponse>>> getWeatherBatch(
+            @Valid @RequestBody WeatherBatchRequest request) {
         
-        if (!weather.isSuccess()) {
-            return ResponseEntity.badRequest().body(weather);
-        }
-        return ResponseEntity.ok(weather);
+        return weatherService.getCurrentWeatherBatchAsync(request.getLocations())
+                .map(ResponseEntity::ok);
     }
     
     @GetMapping("/city")
-    public ResponseEntity<WeatherResponse> getWeatherByCity(
+    public Mono<ResponseEntity<WeatherResponse>> getWeatherByCity(
             @RequestParam String name) {
         
-        WeatherResponse weather = weatherService.getCurrentWeatherByCity(name);
-        
+        return weatherService.getCurrentWeatherByCityAsync(name)
+                .map(this::toResponse);
+    }
+    
+    private ResponseEntity<WeatherResponse> toResponse(WeatherResponse weather) {
         if (!weather.isSuccess()) {
             return ResponseEntity.badRequest().body(weather);
         }
@@ -1,7 +1,10 @@
 package kr.salm.closet.controller.web;
 
 import kr.salm.closet.dto.WeatherResponse;
+import kr.salm.closet.repository.OutfitRepository;
+import kr.salm.closet.repository.UserRepository;
 import kr.salm.closet.service.WeatherService;
+import kr.salm.closet.service.recommend.ComfortCalibration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,11 +13,19 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+
 @Controller
 @RequiredArgsConstructor
 public class MainController {
     
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    
     private final WeatherService weatherService;
+    private final OutfitRepository outfitRepository;
+    private final UserRepository userRepository;
+    private final ComfortCalibration comfortCalibration;
     
     @GetMapping("/")
     public String index() {
@@ -40,8 +51,17 @@ public class MainController {
         
         // 기본값: 서울
         WeatherResponse weather = weatherService.getCurrentWeather(lat, lon);
+        // 사용자 체감 온도 보정 (옷차림 등급도 보정 온도 기준)
+        Long userId = userRepository.findIdByEmail(user.getUsername()).orElse(null);
+        if (userId != null) {
+            weather = comfortCalibration.personalize(userId, weather);
+        }
         model.addAttribute("weather", weather);
         model.addAttribute("userEmail", user.getUsername());
+        // 야간 일괄 계산된 오늘의 코디 (없으면 null)
+        model.addAttribute("todayOutfit", outfitRepository
+                .findByUserEmailAndRecommendedFor(user.getUsername(), LocalDate.now(SEOUL))
+                .orElse(null));
         
         return "dashboard";
     }
@@ -7,6 +7,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
 
 @Entity
 @Table(name = "clothes")
@@ -56,6 +58,15 @@ public class Cloth {
     @Column(name = "style_tags", columnDefinition = "JSON")
     private String styleTags;    // ["casual", "formal", "sporty"]
     
+    // 태그 JSON 의 비트마스크 (인덱스 조회용, 저장 전에 JSON 에서 다시 계산)
+    @Column(name = "weather_tag_mask", nullable = false)
+    @Builder.Default
+    private Integer weatherTagMask = 0;
+    
+    @Column(name = "style_tag_mask", nullable = false)
+    @Builder.Default
+    private Integer styleTagMask = 0;
+    
     @Column(name = "is_favorite")
     @Builder.Default
     private Boolean isFavorite = false;
@@ -84,4 +95,104 @@ public class Cloth {
         this.wearCount++;
         this.lastWornAt = LocalDate.now();
     }
+    
+    public void setWeatherTags(String weatherTags) {
+        this.weatherTags = weatherTags;
+        this.weatherTagMask = TagMask.parse(weatherTags, WeatherTag.class);
+    }
+    
+    public void setStyleTags(String styleTags) {
+        this.styleTags = styleTags;
+        this.styleTagMask = TagMask.parse(styleTags, StyleTag.class);
+    }
+    
+    public EnumSet<WeatherTag> getWeatherTagSet() {
+        return TagMask.toSet(weatherTagMask, WeatherTag.class);
+    }
+    
+    public void setWeatherTagSet(Collection<WeatherTag> tags) {
+        this.weatherTags = TagMask.toJson(tags);
+        this.weatherTagMask = TagMask.of(tags);
+    }
+    
+    public EnumSet<StyleTag> getStyleTagSet() {
+        return TagMask.toSet(styleTagMask, StyleTag.class);
+    }
+    
+    public void setStyleTagSet(Collection<StyleTag> tags) {
+        this.styleTags = TagMask.toJson(tags);
+        this.styleTagMask = TagMask.of(tags);
+    }
+    
+    // 빌더나 JSON 직접 대입으로 들어온 값도 마스크와 맞춤
+    @PrePersist
+    @PreUpdate
+    void syncTagMasks() {
+        this.weatherTagMask = TagMask.parse(weatherTags, WeatherTag.class);
+        this.styleTagMask = TagMask.parse(styleTags, StyleTag.class);
+    }
+    
+    // 비트 위치 = ordinal 이므로 새 태그는 끝에만 추가
+    public enum WeatherTag implements TagMask.Tag {
+        SUNNY("sunny"), RAINY("rainy"), SNOWY("snowy"), WINDY("windy"), CLOUDY("cloudy");
+        
+        private final String value;
+        
+        WeatherTag(String value) {
+            this.value = value;
+        }
+        
+        @Override
+        public String value() {
+            return value;
+        }
+        
+        // WeatherResponse.weatherType → 태그 (해당 없으면 null)
+        public static WeatherTag ofWeatherType(String weatherType) {
+            if (weatherType == null) {
+                return null;
+            }
+            return switch (weatherType) {
+                case "CLEAR" -> SUNNY;
+                case "RAINY" -> RAINY;
+                case "SNOWY" -> SNOWY;
+                case "WINDY" -> WINDY;
+                case "CLOUDY" -> CLOUDY;
+                default -> null;
+            };
+        }
+        
+        public static WeatherTag fromValue(String value) {
+            for (WeatherTag tag : values()) {
+                if (tag.value.equalsIgnoreCase(value)) {
+                    return tag;
+                }
+            }
+            return null;
+        }
+    }
+    
+    public enum StyleTag implements TagMask.Tag {
+        CASUAL("casual"), FORMAL("formal"), SPORTY("sporty");
+        
+        private final String value;
+        
+        StyleTag(String value) {
+            this.value = value;
+        }
+        
+        @Override
+        public String value() {
+            return value;
+        }
+        
+        public static StyleTag fromValue(String value) {
+            for (StyleTag tag : values()) {
+                if (tag.value.equalsIgnoreCase(value)) {
+                    return tag;
+                }
+            }
+            return null;
+        }
+    }
 }
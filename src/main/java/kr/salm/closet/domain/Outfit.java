@@ -5,6 +5,7 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -52,7 +53,11 @@ public class Outfit {
     
     private Integer rating;
     
+    @Column(name = "recommended_for")
+    private LocalDate recommendedFor;  // 오늘의 코디 날짜 (야간 일괄 추천)
+    
     @OneToMany(mappedBy = "outfit", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("layerOrder ASC")
     @Builder.Default
     private List<OutfitCloth> outfitClothes = new ArrayList<>();
     
@@ -0,0 +1,66 @@
+package kr.salm.closet.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outfit_history")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutfitHistory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "outfit_id")
+    private Outfit outfit;
+    
+    @Column(name = "worn_date", nullable = false)
+    private LocalDate wornDate;
+    
+    @Column(name = "weather_temp", precision = 4, scale = 1)
+    private BigDecimal weatherTemp;
+    
+    @Column(name = "weather_condition", length = 50)
+    private String weatherCondition;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_feedback")
+    private Feedback userFeedback;
+    
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    // 착용 후 체감 (더웠다 → 양수, 추웠다 → 음수)
+    public enum Feedback {
+        TOO_HOT(2), HOT(1), PERFECT(0), COLD(-1), TOO_COLD(-2);
+        
+        private final int steps;
+        
+        Feedback(int steps) {
+            this.steps = steps;
+        }
+        
+        public int getSteps() {
+            return steps;
+        }
+    }
+}
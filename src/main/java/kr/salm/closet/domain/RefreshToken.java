@@ -35,6 +35,10 @@ public class RefreshToken {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
     
+    // 회전/로그아웃으로 폐기된 시각 (만료 후 purge 까지 남겨 재사용 탐지에 사용)
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+    
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -42,4 +46,8 @@ public class RefreshToken {
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
     }
+    
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
 }
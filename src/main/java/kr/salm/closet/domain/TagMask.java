@@ -0,0 +1,93 @@
+package kr.salm.closet.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 고정 태그 어휘 ↔ 비트마스크 변환 (clothes.weather_tag_mask / style_tag_mask)
+ * 태그 i 는 enum ordinal 비트 (1 << ordinal), 어휘 밖의 태그는 JSON 에만 남고 마스크에서는 무시된다.
+ */
+public final class TagMask {
+    
+    private TagMask() {
+    }
+    
+    /**
+     * JSON 에 저장되는 태그 값 ("sunny", "formal" 등)
+     */
+    public interface Tag {
+        String value();
+        
+        default int bit() {
+            return 1 << ((Enum<?>) this).ordinal();
+        }
+    }
+    
+    public static <E extends Enum<E> & Tag> int of(Collection<E> tags) {
+        int mask = 0;
+        for (E tag : tags) {
+            mask |= tag.bit();
+        }
+        return mask;
+    }
+    
+    public static <E extends Enum<E> & Tag> EnumSet<E> toSet(int mask, Class<E> type) {
+        EnumSet<E> tags = EnumSet.noneOf(type);
+        for (E tag : type.getEnumConstants()) {
+            if ((mask & tag.bit()) != 0) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+    
+    // 어휘 전체 마스크
+    public static <E extends Enum<E> & Tag> int all(Class<E> type) {
+        return (1 << type.getEnumConstants().length) - 1;
+    }
+    
+    /**
+     * ["sunny", "rainy"] 형식 JSON 배열에서 어휘에 있는 태그만 마스크로
+     * 값이 고정된 짧은 소문자 단어라 따옴표 포함 문자열 검색으로 충분하다.
+     */
+    public static <E extends Enum<E> & Tag> int parse(String json, Class<E> type) {
+        if (json == null || json.isBlank()) {
+            return 0;
+        }
+        int mask = 0;
+        for (E tag : type.getEnumConstants()) {
+            if (json.contains("\"" + tag.value() + "\"")) {
+                mask |= tag.bit();
+            }
+        }
+        return mask;
+    }
+    
+    public static <E extends Enum<E> & Tag> String toJson(Collection<E> tags) {
+        return tags.stream()
+                .map(tag -> "\"" + tag.value() + "\"")
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+    
+    /**
+     * required 비트를 모두 포함하는 universe 안의 모든 마스크
+     * "mask & required = required" 조건을 "mask IN (...)" 로 바꿔 인덱스 범위 조회가 되게 한다.
+     * (어휘가 작아 최대 2^n 개, required 가 0 이면 전체)
+     */
+    public static List<Integer> supersets(int required, int universe) {
+        int free = universe & ~required;
+        List<Integer> masks = new ArrayList<>(1 << Integer.bitCount(free));
+        int subset = free;
+        while (true) {
+            masks.add(required | subset);
+            if (subset == 0) {
+                break;
+            }
+            subset = (subset - 1) & free;
+        }
+        return masks;
+    }
+}
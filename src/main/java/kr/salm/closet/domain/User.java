@@ -57,6 +57,7 @@ public class User {
     @Builder.Default
     private Boolean emailVerified = false;
     
+    // 로그인 기록/잠금은 엔티티를 거치지 않음 (LastLoginRecorder, LoginAttemptListener)
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
     
@@ -67,6 +68,13 @@ public class User {
     @Column(name = "locked_until")
     private LocalDateTime lockedUntil;
     
+    // 기본 위치 (오늘의 코디 일괄 계산용)
+    @Column(name = "home_lat", precision = 9, scale = 6)
+    private BigDecimal homeLat;
+    
+    @Column(name = "home_lon", precision = 9, scale = 6)
+    private BigDecimal homeLon;
+    
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -94,19 +102,4 @@ public class User {
     public boolean isLocked() {
         return lockedUntil != null && lockedUntil.isAfter(LocalDateTime.now());
     }
-    
-    // 로그인 실패 처리
-    public void incrementLoginFailCount() {
-        this.loginFailCount++;
-        if (this.loginFailCount >= 5) {
-            this.lockedUntil = LocalDateTime.now().plusMinutes(30);
-        }
-    }
-    
-    // 로그인 성공 처리
-    public void resetLoginFailCount() {
-        this.loginFailCount = 0;
-        this.lockedUntil = null;
-        this.lastLoginAt = LocalDateTime.now();
-    }
 }
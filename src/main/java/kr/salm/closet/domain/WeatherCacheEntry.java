@@ -0,0 +1,36 @@
+package kr.salm.closet.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "weather_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeatherCacheEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "location_key", nullable = false, unique = true, length = 100)
+    private String locationKey;  // "lat_lon" (격자 좌표)
+    
+    @Column(name = "weather_data", columnDefinition = "JSON", nullable = false)
+    private String weatherData;  // WeatherResponse JSON
+    
+    @Column(name = "fetched_at")
+    private LocalDateTime fetchedAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,8 @@
+package kr.salm.closet.dto;
+
+import java.util.List;
+
+/**
+ * 최상위 카테고리별 옷 목록 (옷장 화면)
+ */
+public record CategoryClothes(Long categoryId, String categoryName, List<ClothView> clothes) {}
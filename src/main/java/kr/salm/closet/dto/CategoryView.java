@@ -0,0 +1,22 @@
+package kr.salm.closet.dto;
+
+import kr.salm.closet.service.category.CategoryTree;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리 응답 (하위 카테고리 중첩)
+ */
+public record CategoryView(Long id, String name, String icon, Integer layerOrder, List<CategoryView> children) {
+    
+    public static List<CategoryView> of(CategoryTree tree) {
+        return tree.roots().stream().map(root -> of(tree, root)).toList();
+    }
+    
+    private static CategoryView of(CategoryTree tree, CategoryTree.Node node) {
+        List<CategoryView> children = node.children().stream()
+                .map(childId -> of(tree, tree.node(childId)))
+                .toList();
+        return new CategoryView(node.id(), node.name(), node.icon(), node.layerOrder(), children);
+    }
+}
@@ -0,0 +1,39 @@
+package kr.salm.closet.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 옷 일괄 등록 요청 (다른 앱/엑셀에서 옮겨 오기)
+ * 태그는 Cloth.WeatherTag / StyleTag 값만 저장하고 나머지는 버린다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClothImportRequest {
+    
+    @NotEmpty
+    @Size(max = 10000)
+    private List<@Valid Item> clothes;
+    
+    public record Item(
+            @NotNull Long categoryId,
+            @NotBlank @Size(max = 100) String name,
+            @Size(max = 100) String brand,
+            @Size(max = 50) String color,
+            @Size(max = 500) String imagePath,
+            @Size(max = 1000) String productUrl,
+            Integer tempMin,
+            Integer tempMax,
+            List<String> weatherTags,
+            List<String> styleTags
+    ) {}
+}
@@ -0,0 +1,47 @@
+package kr.salm.closet.dto;
+
+import kr.salm.closet.service.category.CategoryTree;
+
+import java.time.LocalDate;
+
+/**
+ * 옷 조회용 읽기 모델 (엔티티 지연 로딩 없이 한 쿼리로 생성)
+ * 쿼리는 categoryId 만 읽고, 카테고리 이름/최상위/레이어 순서는 카테고리 트리에서 채운다 (withCategory).
+ */
+public record ClothView(
+        Long id,
+        String name,
+        String brand,
+        String color,
+        String imagePath,
+        Integer tempMin,
+        Integer tempMax,
+        Boolean favorite,
+        Integer wearCount,
+        LocalDate lastWornAt,
+        Long categoryId,
+        String categoryName,
+        Long rootCategoryId,
+        String rootCategoryName,
+        Integer layerOrder
+) {
+    
+    // 조회 쿼리용
+    public ClothView(Long id, String name, String brand, String color, String imagePath,
+                     Integer tempMin, Integer tempMax, Boolean favorite, Integer wearCount,
+                     LocalDate lastWornAt, Long categoryId) {
+        this(id, name, brand, color, imagePath, tempMin, tempMax, favorite, wearCount, lastWornAt,
+                categoryId, null, null, null, null);
+    }
+    
+    public ClothView withCategory(CategoryTree tree) {
+        long rootId = categoryId == null ? 0L : tree.rootId(categoryId);
+        if (rootId == 0L) {
+            return new ClothView(id, name, brand, color, imagePath, tempMin, tempMax, favorite, wearCount,
+                    lastWornAt, categoryId, null, categoryId, null, 0);
+        }
+        return new ClothView(id, name, brand, color, imagePath, tempMin, tempMax, favorite, wearCount,
+                lastWornAt, categoryId, tree.name(categoryId), rootId, tree.name(rootId),
+                tree.layerOrder(categoryId));
+    }
+}
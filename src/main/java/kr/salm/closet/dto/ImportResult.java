@@ -0,0 +1,6 @@
+package kr.salm.closet.dto;
+
+/**
+ * 일괄 등록 결과 (skipped = 카테고리/옷을 찾을 수 없어 건너뛴 항목 수)
+ */
+public record ImportResult(int imported, int skipped) {}
@@ -0,0 +1,21 @@
+package kr.salm.closet.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 페이지
+ * nextCursor 를 다음 요청의 커서로 넘기면 이어서 조회한다 (마지막 페이지면 null).
+ * 오프셋을 쓰지 않으므로 몇 번째 페이지든 비용이 같다.
+ */
+public record KeysetPage<T>(List<T> items, Long nextCursor) {
+    
+    // size + 1 개를 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+    public static <T> KeysetPage<T> of(List<T> fetched, int size, Function<T, Long> cursorOf) {
+        if (fetched.size() <= size) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new KeysetPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)));
+    }
+}
@@ -0,0 +1,13 @@
+package kr.salm.closet.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * API 로그인 요청 (모바일)
+ */
+public record LoginRequest(
+        @NotBlank @Email String email,
+        @NotBlank @Size(max = 100) String password
+) {}
@@ -0,0 +1,29 @@
+package kr.salm.closet.dto;
+
+import kr.salm.closet.service.category.CategoryTree;
+
+/**
+ * 코디에 포함된 옷 (레이어 순서)
+ * 쿼리는 categoryId 만 읽고, 카테고리 이름은 카테고리 트리에서 채운다 (withCategory).
+ */
+public record OutfitClothView(
+        Long outfitId,
+        Integer layerOrder,
+        Long clothId,
+        String name,
+        String imagePath,
+        Long categoryId,
+        String categoryName
+) {
+    
+    // 조회 쿼리용
+    public OutfitClothView(Long outfitId, Integer layerOrder, Long clothId, String name, String imagePath,
+                           Long categoryId) {
+        this(outfitId, layerOrder, clothId, name, imagePath, categoryId, null);
+    }
+    
+    public OutfitClothView withCategory(CategoryTree tree) {
+        return new OutfitClothView(outfitId, layerOrder, clothId, name, imagePath, categoryId,
+                categoryId == null ? null : tree.name(categoryId));
+    }
+}
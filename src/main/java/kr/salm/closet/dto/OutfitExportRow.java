@@ -0,0 +1,34 @@
+package kr.salm.closet.dto;
+
+import kr.salm.closet.domain.Outfit;
+import kr.salm.closet.service.category.CategoryTree;
+
+import java.time.LocalDate;
+
+/**
+ * 코디 내보내기용 평탄화 행 (코디 × 옷, 옷이 없는 코디는 옷 컬럼이 null)
+ * 코디 id / 레이어 순서로 정렬된 스트림을 연속 구간별로 묶어 OutfitView 로 만든다.
+ */
+public record OutfitExportRow(
+        Long outfitId,
+        String name,
+        String description,
+        Integer tempMin,
+        Integer tempMax,
+        Outfit.WeatherType weatherType,
+        String occasion,
+        Boolean aiGenerated,
+        Integer rating,
+        LocalDate recommendedFor,
+        Integer layerOrder,
+        Long clothId,
+        String clothName,
+        String imagePath,
+        Long categoryId
+) {
+    
+    public OutfitClothView toClothView(CategoryTree tree) {
+        return new OutfitClothView(outfitId, layerOrder, clothId, clothName, imagePath, categoryId,
+                categoryId == null ? null : tree.name(categoryId));
+    }
+}
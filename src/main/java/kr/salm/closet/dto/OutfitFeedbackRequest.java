@@ -0,0 +1,32 @@
+package kr.salm.closet.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import kr.salm.closet.domain.OutfitHistory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 착용 후 체감 피드백 (outfit_history 기록 + 체감 온도 보정)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutfitFeedbackRequest {
+    
+    private Long outfitId;            // 추천/저장된 코디 (없으면 null)
+    private LocalDate wornDate;       // 없으면 오늘
+    private BigDecimal weatherTemp;
+    
+    @Size(max = 50)
+    private String weatherCondition;
+    
+    @NotNull
+    private OutfitHistory.Feedback feedback;
+    
+    private String notes;
+}
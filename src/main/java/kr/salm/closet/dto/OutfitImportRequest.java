@@ -0,0 +1,34 @@
+package kr.salm.closet.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import kr.salm.closet.domain.Outfit;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 코디 일괄 등록 요청 (clothIds 순서가 레이어 순서)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutfitImportRequest {
+    
+    @NotEmpty
+    @Size(max = 2000)
+    private List<@Valid Item> outfits;
+    
+    public record Item(
+            @Size(max = 100) String name,
+            String description,
+            Integer tempMin,
+            Integer tempMax,
+            Outfit.WeatherType weatherType,
+            @Size(max = 50) String occasion,
+            @NotEmpty @Size(max = 20) List<Long> clothIds
+    ) {}
+}
@@ -0,0 +1,30 @@
+package kr.salm.closet.dto;
+
+import kr.salm.closet.service.recommend.RecommendedOutfit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutfitRecommendationResponse {
+    
+    private boolean success;
+    private String errorMessage;
+    
+    private WeatherResponse weather;          // 추천 기준 날씨
+    private List<RecommendedOutfit> outfits;  // 점수 내림차순
+    private boolean complete;                 // false 면 시간 예산 초과로 일부만 탐색
+    
+    public static OutfitRecommendationResponse error(String message) {
+        return OutfitRecommendationResponse.builder()
+                .success(false)
+                .errorMessage(message)
+                .build();
+    }
+}
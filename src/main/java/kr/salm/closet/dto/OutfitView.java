@@ -0,0 +1,30 @@
+package kr.salm.closet.dto;
+
+import kr.salm.closet.domain.Outfit;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 코디 조회용 읽기 모델 (옷은 레이어 순서)
+ */
+public record OutfitView(
+        Long id,
+        String name,
+        String description,
+        Integer tempMin,
+        Integer tempMax,
+        Outfit.WeatherType weatherType,
+        String occasion,
+        Boolean aiGenerated,
+        Integer rating,
+        LocalDate recommendedFor,
+        List<OutfitClothView> clothes
+) {
+    
+    public static OutfitView of(Outfit outfit, List<OutfitClothView> clothes) {
+        return new OutfitView(outfit.getId(), outfit.getName(), outfit.getDescription(),
+                outfit.getTempMin(), outfit.getTempMax(), outfit.getWeatherType(), outfit.getOccasion(),
+                outfit.getIsAiGenerated(), outfit.getRating(), outfit.getRecommendedFor(), clothes);
+    }
+}
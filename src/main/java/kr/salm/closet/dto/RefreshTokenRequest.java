@@ -0,0 +1,9 @@
+package kr.salm.closet.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 토큰 회전/폐기 요청
+ */
+public record RefreshTokenRequest(@NotBlank @Size(max = 1000) String refreshToken) {}
@@ -0,0 +1,6 @@
+package kr.salm.closet.dto;
+
+/**
+ * 로그인/토큰 회전 응답 (Refresh Token 은 회전할 때마다 새로 발급, 이전 것은 폐기)
+ */
+public record TokenResponse(String accessToken, String refreshToken) {}
@@ -0,0 +1,31 @@
+package kr.salm.closet.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 위치 날씨 일괄 조회 요청
+ * 응답은 locations 와 같은 순서의 WeatherResponse 목록
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherBatchRequest {
+    
+    @NotEmpty
+    @Size(max = 100)
+    private List<@Valid Location> locations;
+    
+    public record Location(
+            @DecimalMin("-90") @DecimalMax("90") double lat,
+            @DecimalMin("-180") @DecimalMax("180") double lon
+    ) {}
+}
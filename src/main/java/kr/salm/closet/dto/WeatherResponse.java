@@ -6,7 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class WeatherResponse {
@@ -16,6 +16,7 @@ public class WeatherResponse {
     
     private int temperature;      // 현재 온도 (°C)
     private int feelsLike;        // 체감 온도
+    private Integer correctedTemperature;  // 사용자 보정 온도 (추천 기준, 보정 없으면 null)
     private int humidity;         // 습도 (%)
     private double windSpeed;     // 풍속 (km/h)
     private String weatherMain;   // Clear, Clouds, Rain, Snow 등
@@ -23,6 +24,7 @@ public class WeatherResponse {
     private String description;   // 한글 상세 설명
     private String icon;          // 이모지 아이콘
     private String cityName;      // 도시명
+    private boolean degraded;     // 업스트림 장애로 마지막 값을 제공한 경우
     
     public static WeatherResponse error(String message) {
         return WeatherResponse.builder()
@@ -31,10 +33,16 @@ public class WeatherResponse {
                 .build();
     }
     
+    // 추천 기준 온도 (사용자 보정 온도, 없으면 체감 온도)
+    public int recommendationTemperature() {
+        return correctedTemperature != null ? correctedTemperature : feelsLike;
+    }
+    
     /**
-     * 온도 기반 옷차림 추천 등급 반환
+     * 추천 기준 온도로 옷차림 추천 등급 반환
      */
     public String getTemperatureLevel() {
+        int temperature = recommendationTemperature();
         if (temperature >= 28) return "VERY_HOT";      // 민소매, 반팔, 반바지
         if (temperature >= 23) return "HOT";           // 반팔, 얇은 셔츠
         if (temperature >= 20) return "WARM";          // 얇은 가디건, 긴팔
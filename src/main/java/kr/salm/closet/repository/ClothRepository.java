@@ -1,13 +1,22 @@
 package kr.salm.closet.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.salm.closet.domain.Cloth;
+import kr.salm.closet.domain.TagMask;
 import kr.salm.closet.domain.User;
+import kr.salm.closet.dto.ClothView;
+import kr.salm.closet.service.wardrobe.ClothItem;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClothRepository extends JpaRepository<Cloth, Long> {
@@ -36,5 +45,77 @@ public interface ClothRepository extends JpaRepository<Cloth, Long> {
     
     List<Cloth> findByUserIdAndCategoryIdAndIsActiveTrue(Long userId, Long categoryId);
     
+    // 옷장 화면용 (카테고리 이름/최상위는 CategoryCatalog 트리에서 채움)
+    @Query("SELECT new kr.salm.closet.dto.ClothView(" +
+           "c.id, c.name, c.brand, c.color, c.imagePath, c.tempMin, c.tempMax, " +
+           "c.isFavorite, c.wearCount, c.lastWornAt, c.category.id) " +
+           "FROM Cloth c " +
+           "WHERE c.user.id = :userId AND c.isActive = true " +
+           "ORDER BY c.category.id, c.id")
+    List<ClothView> findViewsByUserId(@Param("userId") Long userId);
+    
+    // 키셋 페이지 (id > afterId, idx_user_active_id 사용, pageable 은 크기만)
+    @Query("SELECT new kr.salm.closet.dto.ClothView(" +
+           "c.id, c.name, c.brand, c.color, c.imagePath, c.tempMin, c.tempMax, " +
+           "c.isFavorite, c.wearCount, c.lastWornAt, c.category.id) " +
+           "FROM Cloth c " +
+           "WHERE c.user.id = :userId AND c.isActive = true AND c.id > :afterId " +
+           "ORDER BY c.id")
+    List<ClothView> findViewsAfter(@Param("userId") Long userId,
+                                   @Param("afterId") long afterId,
+                                   Pageable limit);
+    
+    // 내보내기용 스트림 (트랜잭션 안에서 소비, 커서로 fetch-size 행씩 읽음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new kr.salm.closet.dto.ClothView(" +
+           "c.id, c.name, c.brand, c.color, c.imagePath, c.tempMin, c.tempMax, " +
+           "c.isFavorite, c.wearCount, c.lastWornAt, c.category.id) " +
+           "FROM Cloth c " +
+           "WHERE c.user.id = :userId AND c.isActive = true " +
+           "ORDER BY c.id")
+    Stream<ClothView> streamViewsByUserId(@Param("userId") Long userId);
+    
+    // 옷장 인덱스 적재용 요약 조회 (WardrobeIndex, cloth_categories 조인 없음)
+    @Query("SELECT new kr.salm.closet.service.wardrobe.ClothItem(" +
+           "c.user.id, c.id, c.category.id, " +
+           "c.name, c.imagePath, c.tempMin, c.tempMax, c.weatherTagMask, c.isFavorite, c.wearCount, c.lastWornAt) " +
+           "FROM Cloth c WHERE c.user.id = :userId AND c.isActive = true " +
+           "ORDER BY c.id")
+    List<ClothItem> findItemsByUserId(@Param("userId") Long userId);
+    
+    // 여러 사용자 옷장 요약 한 번에 조회 (일괄 추천용)
+    @Query("SELECT new kr.salm.closet.service.wardrobe.ClothItem(" +
+           "c.user.id, c.id, c.category.id, " +
+           "c.name, c.imagePath, c.tempMin, c.tempMax, c.weatherTagMask, c.isFavorite, c.wearCount, c.lastWornAt) " +
+           "FROM Cloth c WHERE c.user.id IN :userIds AND c.isActive = true " +
+           "ORDER BY c.user.id, c.id")
+    List<ClothItem> findItemsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+    
+    // 태그 마스크 필터 (마스크 목록 IN 조회라 idx_user_tags 범위 스캔, JSON 파싱 없음)
+    @Query("SELECT new kr.salm.closet.dto.ClothView(" +
+           "c.id, c.name, c.brand, c.color, c.imagePath, c.tempMin, c.tempMax, " +
+           "c.isFavorite, c.wearCount, c.lastWornAt, c.category.id) " +
+           "FROM Cloth c " +
+           "WHERE c.user.id = :userId AND c.isActive = true " +
+           "AND c.weatherTagMask IN :weatherMasks AND c.styleTagMask IN :styleMasks " +
+           "ORDER BY c.id")
+    List<ClothView> findViewsByTagMasks(@Param("userId") Long userId,
+                                        @Param("weatherMasks") Collection<Integer> weatherMasks,
+                                        @Param("styleMasks") Collection<Integer> styleMasks);
+    
+    /**
+     * 지정한 태그를 모두 가진 활성 옷 (비어 있는 쪽은 조건 없음)
+     */
+    default List<ClothView> findViewsByTags(Long userId,
+                                            Collection<Cloth.WeatherTag> weatherTags,
+                                            Collection<Cloth.StyleTag> styleTags) {
+        return findViewsByTagMasks(userId,
+                TagMask.supersets(TagMask.of(weatherTags), TagMask.all(Cloth.WeatherTag.class)),
+                TagMask.supersets(TagMask.of(styleTags), TagMask.all(Cloth.StyleTag.class)));
+    }
+    
     long countByUserIdAndIsActiveTrue(Long userId);
 }
@@ -0,0 +1,9 @@
+package kr.salm.closet.repository;
+
+import kr.salm.closet.domain.OutfitHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutfitHistoryRepository extends JpaRepository<OutfitHistory, Long> {
+}
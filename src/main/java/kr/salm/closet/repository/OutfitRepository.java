@@ -1,18 +1,63 @@
 package kr.salm.closet.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.salm.closet.domain.Outfit;
+import kr.salm.closet.dto.OutfitClothView;
+import kr.salm.closet.dto.OutfitExportRow;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OutfitRepository extends JpaRepository<Outfit, Long> {
     
     List<Outfit> findByUserId(Long userId);
     
+    // 키셋 페이지 (최신순, id < beforeId, idx_user_id 사용, pageable 은 크기만)
+    @Query("SELECT o FROM Outfit o WHERE o.user.id = :userId AND o.id < :beforeId ORDER BY o.id DESC")
+    List<Outfit> findPageBefore(@Param("userId") Long userId,
+                                @Param("beforeId") long beforeId,
+                                Pageable limit);
+    
+    // 내보내기용 스트림 (코디 × 옷 평탄화, 코디별 레이어 순서)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new kr.salm.closet.dto.OutfitExportRow(" +
+           "o.id, o.name, o.description, o.tempMin, o.tempMax, o.weatherType, o.occasion, " +
+           "o.isAiGenerated, o.rating, o.recommendedFor, oc.layerOrder, c.id, c.name, c.imagePath, c.category.id) " +
+           "FROM Outfit o LEFT JOIN o.outfitClothes oc LEFT JOIN oc.cloth c " +
+           "WHERE o.user.id = :userId " +
+           "ORDER BY o.id DESC, oc.layerOrder, c.id")
+    Stream<OutfitExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
+    
+    // 여러 코디의 옷을 한 번에 (코디별 레이어 순서)
+    @Query("SELECT new kr.salm.closet.dto.OutfitClothView(" +
+           "oc.outfit.id, oc.layerOrder, c.id, c.name, c.imagePath, c.category.id) " +
+           "FROM OutfitCloth oc JOIN oc.cloth c " +
+           "WHERE oc.outfit.id IN :outfitIds " +
+           "ORDER BY oc.outfit.id, oc.layerOrder, c.id")
+    List<OutfitClothView> findClothViewsByOutfitIdIn(@Param("outfitIds") Collection<Long> outfitIds);
+    
+    boolean existsByIdAndUserId(Long id, Long userId);
+    
+    // 착용 기록용 코디 옷 id (소유자 확인 포함)
+    @Query("SELECT oc.cloth.id FROM OutfitCloth oc " +
+           "WHERE oc.outfit.id = :outfitId AND oc.outfit.user.id = :userId")
+    List<Long> findClothIdsByOutfitIdAndUserId(@Param("outfitId") Long outfitId, @Param("userId") Long userId);
+    
     @Query("SELECT o FROM Outfit o WHERE o.user.id = :userId " +
            "AND o.weatherType = :weatherType " +
            "AND (o.tempMin IS NULL OR o.tempMin <= :temp) " +
@@ -23,4 +68,8 @@ public interface OutfitRepository extends JpaRepository<Outfit, Long> {
             @Param("temp") int temperature);
     
     List<Outfit> findByUserIdAndIsAiGeneratedTrue(Long userId);
+    
+    // 오늘의 코디 (uk_user_recommended 로 조회, 옷까지 한 번에)
+    @EntityGraph(attributePaths = {"outfitClothes", "outfitClothes.cloth"})
+    Optional<Outfit> findByUserEmailAndRecommendedFor(String email, LocalDate recommendedFor);
 }
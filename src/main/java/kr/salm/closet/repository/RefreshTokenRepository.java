@@ -0,0 +1,45 @@
+package kr.salm.closet.repository;
+
+import jakarta.persistence.QueryHint;
+import kr.salm.closet.domain.RefreshToken;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    
+    // 유효한 토큰만 폐기 (uk_token 조회, 이미 폐기/만료면 0 → 회전 경쟁에서 한 요청만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now " +
+           "WHERE t.tokenHash = :tokenHash AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    int revoke(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT t.tokenHash FROM RefreshToken t " +
+           "WHERE t.user.id = :userId AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    List<String> findActiveHashesByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now " +
+           "WHERE t.user.id = :userId AND t.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    // 폐기됐지만 아직 만료 전인 토큰 (폐기 필터 재구성용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.tokenHash FROM RefreshToken t WHERE t.revokedAt IS NOT NULL AND t.expiresAt > :now")
+    Stream<String> streamRevokedHashes(@Param("now") LocalDateTime now);
+}
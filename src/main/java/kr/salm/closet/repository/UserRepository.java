@@ -1,9 +1,16 @@
 package kr.salm.closet.repository;
 
 import kr.salm.closet.domain.User;
+import kr.salm.closet.service.auth.UserCredentials;
+import kr.salm.closet.service.batch.UserHome;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +21,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByNickname(String nickname);
+    
+    // 인증용 (해시/역할/상태만, UserDetailsCache)
+    @Query("SELECT new kr.salm.closet.service.auth.UserCredentials(" +
+           "u.id, u.email, u.passwordHash, u.role, u.isActive, u.lockedUntil) " +
+           "FROM User u WHERE u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+    
+    // 로그인 시 해시 비용 올리기 (엔티티 로드 없이)
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.email = :email")
+    int updatePasswordHash(@Param("email") String email, @Param("passwordHash") String passwordHash);
+    
+    // 실패 누적 잠금 (이미 잠겨 있으면 0 → 동시에 임계값을 넘은 요청 중 하나만 기록)
+    @Modifying
+    @Query("UPDATE User u SET u.loginFailCount = :failures, u.lockedUntil = :until " +
+           "WHERE u.email = :email AND (u.lockedUntil IS NULL OR u.lockedUntil <= :now)")
+    int lockUntil(@Param("email") String email, @Param("failures") int failures,
+                  @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+    
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+    
+    // 활성 사용자 기본 위치 (오늘의 코디 일괄 계산용)
+    @Query("SELECT new kr.salm.closet.service.batch.UserHome(u.id, u.homeLat, u.homeLon) " +
+           "FROM User u WHERE u.isActive = true")
+    List<UserHome> findActiveHomes();
 }
@@ -0,0 +1,32 @@
+package kr.salm.closet.repository;
+
+import kr.salm.closet.domain.WeatherCacheEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WeatherCacheRepository extends JpaRepository<WeatherCacheEntry, Long> {
+    
+    Optional<WeatherCacheEntry> findByLocationKeyAndExpiresAtAfter(String locationKey, LocalDateTime now);
+    
+    List<WeatherCacheEntry> findByLocationKeyInAndExpiresAtAfter(Collection<String> locationKeys, LocalDateTime now);
+    
+    // 시작 시 L1 워밍업용 (최근 조회 순)
+    List<WeatherCacheEntry> findByExpiresAtAfterOrderByFetchedAtDesc(LocalDateTime now, Pageable pageable);
+    
+    // 만료 행 정리 (idx_expires 사용, 배치 단위로 삭제해 락 범위 제한)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM weather_cache WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,131 @@
+package kr.salm.closet.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.salm.closet.domain.Cloth;
+import kr.salm.closet.dto.CategoryClothes;
+import kr.salm.closet.dto.ClothImportRequest;
+import kr.salm.closet.dto.ClothView;
+import kr.salm.closet.dto.ImportResult;
+import kr.salm.closet.dto.KeysetPage;
+import kr.salm.closet.repository.ClothRepository;
+import kr.salm.closet.repository.UserRepository;
+import kr.salm.closet.service.batch.WardrobeImporter;
+import kr.salm.closet.service.category.CategoryCatalog;
+import kr.salm.closet.service.category.CategoryTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ClothService {
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    private final ClothRepository clothRepository;
+    private final UserRepository userRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final WardrobeImporter wardrobeImporter;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 최상위 카테고리별 내 옷 목록
+     * 옷 수와 관계없이 쿼리 한 번 (카테고리는 메모리 트리에서 채움, 최상위 카테고리 id 순)
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryClothes> getWardrobe(String email) {
+        Long userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null) {
+            return List.of();
+        }
+        
+        CategoryTree tree = categoryCatalog.tree();
+        Map<Long, CategoryClothes> byRoot = new TreeMap<>();
+        for (ClothView row : clothRepository.findViewsByUserId(userId)) {
+            ClothView cloth = row.withCategory(tree);
+            byRoot.computeIfAbsent(cloth.rootCategoryId(),
+                            id -> new CategoryClothes(id, cloth.rootCategoryName(), new ArrayList<>()))
+                    .clothes().add(cloth);
+        }
+        return List.copyOf(byRoot.values());
+    }
+    
+    /**
+     * 내 옷 목록 키셋 페이지 (id 오름차순, afterId 다음부터)
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<ClothView> getClothesPage(String email, long afterId, int size) {
+        Long userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null) {
+            return new KeysetPage<>(List.of(), null);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CategoryTree tree = categoryCatalog.tree();
+        List<ClothView> fetched = clothRepository.findViewsAfter(userId, afterId, PageRequest.of(0, limit + 1))
+                .stream()
+                .map(cloth -> cloth.withCategory(tree))
+                .toList();
+        return KeysetPage.of(fetched, limit, ClothView::id);
+    }
+    
+    /**
+     * 지정한 날씨/스타일 태그를 모두 가진 내 옷
+     * 어휘에 없는 태그는 마스크에 없어 어떤 옷도 가질 수 없으므로 빈 목록 (무시하면 조건이 풀려 옷장 전체가 나온다)
+     */
+    @Transactional(readOnly = true)
+    public List<ClothView> getClothesByTags(String email, List<String> weather, List<String> style) {
+        Long userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null) {
+            return List.of();
+        }
+        List<Cloth.WeatherTag> weatherTags = weather.stream()
+                .map(Cloth.WeatherTag::fromValue)
+                .toList();
+        List<Cloth.StyleTag> styleTags = style.stream()
+                .map(Cloth.StyleTag::fromValue)
+                .toList();
+        if (weatherTags.contains(null) || styleTags.contains(null)) {
+            return List.of();
+        }
+        CategoryTree tree = categoryCatalog.tree();
+        return clothRepository.findViewsByTags(userId, weatherTags, styleTags).stream()
+                .map(cloth -> cloth.withCategory(tree))
+                .toList();
+    }
+    
+    /**
+     * 옷 일괄 등록 (JDBC 배치, 한 트랜잭션)
+     */
+    public ImportResult importClothes(String email, ClothImportRequest request) {
+        return userRepository.findIdByEmail(email)
+                .map(userId -> wardrobeImporter.importClothes(userId, request.getClothes()))
+                .orElse(new ImportResult(0, request.getClothes().size()));
+    }
+    
+    /**
+     * 내 옷 전체를 JSON 배열로 스트리밍 (행 단위로 읽고 바로 씀)
+     */
+    @Transactional(readOnly = true)
+    public void exportClothes(String email, OutputStream out) throws IOException {
+        Long userId = userRepository.findIdByEmail(email).orElse(-1L);
+        CategoryTree tree = categoryCatalog.tree();
+        try (Stream<ClothView> clothes = clothRepository.streamViewsByUserId(userId);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            for (ClothView cloth : (Iterable<ClothView>) clothes::iterator) {
+                generator.writeObject(cloth.withCategory(tree));
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package kr.salm.closet.service;
 
-import kr.salm.closet.domain.User;
 import kr.salm.closet.repository.UserRepository;
+import kr.salm.closet.service.auth.UserCredentials;
+import kr.salm.closet.service.auth.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,17 +16,18 @@ import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
+    private final UserDetailsCache userDetailsCache;
     private final UserRepository userRepository;
     
+    // 인증 정보는 캐시에서 (miss 일 때만 필요한 컬럼만 조회), 잠금은 조회 시점 기준으로 판단
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        UserCredentials user = userDetailsCache.get(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
         
-        if (!user.getIsActive()) {
+        if (!Boolean.TRUE.equals(user.active())) {
             throw new UsernameNotFoundException("User is deactivated: " + email);
         }
         
@@ -33,9 +36,23 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
         
         return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPasswordHash(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                user.email(),
+                user.passwordHash(),
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.role().name()))
         );
     }
+    
+    /**
+     * 로그인 성공 후 저장된 해시의 비용이 현재 설정보다 낮으면 호출됨 (DaoAuthenticationProvider)
+     * 방금 검증한 비밀번호로 만든 새 해시로 교체하므로 사용자는 알아챌 수 없다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordHash(user.getUsername(), newPassword);
+        userDetailsCache.evict(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
@@ -0,0 +1,234 @@
+package kr.salm.closet.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.salm.closet.domain.Outfit;
+import kr.salm.closet.domain.OutfitHistory;
+import kr.salm.closet.domain.User;
+import kr.salm.closet.dto.ImportResult;
+import kr.salm.closet.dto.KeysetPage;
+import kr.salm.closet.dto.OutfitClothView;
+import kr.salm.closet.dto.OutfitExportRow;
+import kr.salm.closet.dto.OutfitFeedbackRequest;
+import kr.salm.closet.dto.OutfitImportRequest;
+import kr.salm.closet.dto.OutfitRecommendationResponse;
+import kr.salm.closet.dto.OutfitView;
+import kr.salm.closet.dto.WeatherResponse;
+import kr.salm.closet.repository.OutfitHistoryRepository;
+import kr.salm.closet.repository.OutfitRepository;
+import kr.salm.closet.repository.UserRepository;
+import kr.salm.closet.service.batch.WardrobeImporter;
+import kr.salm.closet.service.category.CategoryCatalog;
+import kr.salm.closet.service.category.CategoryTree;
+import kr.salm.closet.service.recommend.ComfortCalibration;
+import kr.salm.closet.service.recommend.OutfitRecommender;
+import kr.salm.closet.service.recommend.RecommendationResult;
+import kr.salm.closet.service.wardrobe.WardrobeIndex;
+import kr.salm.closet.service.wardrobe.WearRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutfitService {
+    
+    private final WeatherService weatherService;
+    private final WardrobeIndex wardrobeIndex;
+    private final OutfitRecommender outfitRecommender;
+    private final UserRepository userRepository;
+    private final OutfitRepository outfitRepository;
+    private final OutfitHistoryRepository outfitHistoryRepository;
+    private final ComfortCalibration comfortCalibration;
+    private final CategoryCatalog categoryCatalog;
+    private final WearRecorder wearRecorder;
+    private final WardrobeImporter wardrobeImporter;
+    private final ObjectMapper objectMapper;
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    @Value("${recommend.max-k:10}")
+    private int maxK;
+    
+    /**
+     * 현재 날씨 기반 코디 추천 (상위 k 개)
+     * 날씨는 논블로킹으로 가져오고, 옷장 인덱스 적재(DB)와 탐색은 boundedElastic 에서 처리한다.
+     */
+    public Mono<OutfitRecommendationResponse> recommend(String email, double lat, double lon, int k) {
+        int limit = Math.max(1, Math.min(k, maxK));
+        return weatherService.getCurrentWeatherAsync(lat, lon)
+                .publishOn(Schedulers.boundedElastic())
+                .map(weather -> {
+                    if (!weather.isSuccess()) {
+                        return OutfitRecommendationResponse.error(weather.getErrorMessage());
+                    }
+                    return recommend(email, weather, limit);
+                });
+    }
+    
+    /**
+     * 내 코디 키셋 페이지 (최신순, beforeId 이전부터, 옷은 레이어 순서)
+     * 페이지 크기와 관계없이 쿼리 두 번 (코디 목록 + 페이지 코디들의 옷)
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<OutfitView> getOutfitsPage(String email, long beforeId, int size) {
+        Long userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null) {
+            return new KeysetPage<>(List.of(), null);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetPage<Outfit> page = KeysetPage.of(
+                outfitRepository.findPageBefore(userId, beforeId, PageRequest.of(0, limit + 1)),
+                limit, Outfit::getId);
+        if (page.items().isEmpty()) {
+            return new KeysetPage<>(List.of(), null);
+        }
+        
+        CategoryTree tree = categoryCatalog.tree();
+        Map<Long, List<OutfitClothView>> clothes = outfitRepository
+                .findClothViewsByOutfitIdIn(page.items().stream().map(Outfit::getId).toList())
+                .stream()
+                .map(view -> view.withCategory(tree))
+                .collect(Collectors.groupingBy(OutfitClothView::outfitId));
+        List<OutfitView> views = page.items().stream()
+                .map(outfit -> OutfitView.of(outfit, clothes.getOrDefault(outfit.getId(), List.of())))
+                .toList();
+        return new KeysetPage<>(views, page.nextCursor());
+    }
+    
+    /**
+     * 내 코디 전체를 JSON 배열로 스트리밍 (최신순)
+     * 코디 × 옷 행을 커서로 읽으면서 코디 하나가 끝날 때마다 바로 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public void exportOutfits(String email, OutputStream out) throws IOException {
+        Long userId = userRepository.findIdByEmail(email).orElse(-1L);
+        CategoryTree tree = categoryCatalog.tree();
+        try (Stream<OutfitExportRow> rows = outfitRepository.streamExportRowsByUserId(userId);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            OutfitExportRow head = null;
+            List<OutfitClothView> clothes = new ArrayList<>();
+            for (OutfitExportRow row : (Iterable<OutfitExportRow>) rows::iterator) {
+                if (head != null && !head.outfitId().equals(row.outfitId())) {
+                    generator.writeObject(toView(head, clothes));
+                    clothes = new ArrayList<>();
+                }
+                head = row;
+                if (row.clothId() != null) {
+                    clothes.add(row.toClothView(tree));
+                }
+            }
+            if (head != null) {
+                generator.writeObject(toView(head, clothes));
+            }
+            generator.writeEndArray();
+        }
+    }
+    
+    /**
+     * 착용 후 체감 피드백 기록 + 사용자 보정값 갱신
+     * 다른 사용자의 코디를 지정하면 false
+     */
+    @Transactional
+    public boolean recordFeedback(String email, OutfitFeedbackRequest request) {
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            return false;
+        }
+        Outfit outfit = null;
+        if (request.getOutfitId() != null) {
+            outfit = outfitRepository.findById(request.getOutfitId())
+                    .filter(found -> found.getUser().getId().equals(user.getId()))
+                    .orElse(null);
+            if (outfit == null) {
+                return false;
+            }
+        }
+        
+        OutfitHistory history = outfitHistoryRepository.save(OutfitHistory.builder()
+                .user(user)
+                .outfit(outfit)
+                .wornDate(request.getWornDate() != null ? request.getWornDate() : LocalDate.now())
+                .weatherTemp(request.getWeatherTemp())
+                .weatherCondition(request.getWeatherCondition())
+                .userFeedback(request.getFeedback())
+                .notes(request.getNotes())
+                .build());
+        // 커밋된 피드백만 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                comfortCalibration.record(history.getId(), user.getId(), request.getFeedback());
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * 코디 일괄 등록 (JDBC 배치, 한 트랜잭션)
+     */
+    public ImportResult importOutfits(String email, OutfitImportRequest request) {
+        return userRepository.findIdByEmail(email)
+                .map(userId -> wardrobeImporter.importOutfits(userId, request.getOutfits()))
+                .orElse(new ImportResult(0, request.getOutfits().size()));
+    }
+    
+    /**
+     * 코디 착용 기록 (코디 옷들의 착용 횟수 + outfit_history)
+     * 바로 쓰지 않고 WearRecorder 버퍼에 넣는다. 다른 사용자의 코디면 false
+     * (버퍼가 차면 이 스레드에서 flush 하므로 읽기 전용 트랜잭션으로 감싸지 않음)
+     */
+    public boolean recordWear(String email, Long outfitId, LocalDate wornDate) {
+        Long userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null || !outfitRepository.existsByIdAndUserId(outfitId, userId)) {
+            return false;
+        }
+        List<Long> clothIds = outfitRepository.findClothIdsByOutfitIdAndUserId(outfitId, userId);
+        wearRecorder.record(userId, outfitId, clothIds, wornDate != null ? wornDate : LocalDate.now());
+        return true;
+    }
+    
+    private static OutfitView toView(OutfitExportRow row, List<OutfitClothView> clothes) {
+        return new OutfitView(row.outfitId(), row.name(), row.description(), row.tempMin(), row.tempMax(),
+                row.weatherType(), row.occasion(), row.aiGenerated(), row.rating(), row.recommendedFor(), clothes);
+    }
+    
+    private OutfitRecommendationResponse recommend(String email, WeatherResponse weather, int k) {
+        Long userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null) {
+            return OutfitRecommendationResponse.error("사용자를 찾을 수 없습니다.");
+        }
+        
+        // 사용자 체감 온도 보정 후 추천
+        WeatherResponse personal = comfortCalibration.personalize(userId, weather);
+        RecommendationResult result = outfitRecommender.recommend(wardrobeIndex.get(userId),
+                personal.recommendationTemperature(), personal.getWeatherType(), k);
+        if (!result.complete()) {
+            log.warn("Recommendation search hit time budget: userId={}", userId);
+        }
+        return OutfitRecommendationResponse.builder()
+                .success(true)
+                .weather(personal)
+                .outfits(result.outfits())
+                .complete(result.complete())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package kr.salm.closet.service.auth;
+
+import kr.salm.closet.dto.TokenResponse;
+import kr.salm.closet.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * API 로그인 / 토큰 회전 / 로그아웃
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+    
+    private final AuthenticationManager authenticationManager;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
+    private final UserRepository userRepository;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    
+    /**
+     * 이메일/비밀번호 확인 후 토큰 발급 (실패하면 empty)
+     * IP 제한은 LoginThrottleFilter 가 먼저 거르고, 여기서는 본문에 있는 이메일 제한을 해시 계산 전에 확인한다.
+     */
+    public Optional<TokenResponse> login(String email, String password, String deviceInfo, String ipAddress) {
+        loginAttemptLimiter.blockedFor(email, null).ifPresent(retryAfter -> {
+            throw new LoginThrottledException(retryAfter);
+        });
+        
+        // 실패/성공 기록(LoginAttemptListener)이 IP 별로도 세도록 폼 로그인과 같은 details
+        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(email, password);
+        token.setDetails(new WebAuthenticationDetails(ipAddress, null));
+        try {
+            authenticationManager.authenticate(token);
+        } catch (AuthenticationException e) {
+            log.debug("API login failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+        return userDetailsCache.get(email)
+                .map(user -> refreshTokenService.issue(user, deviceInfo, ipAddress));
+    }
+    
+    public Optional<TokenResponse> refresh(String refreshToken, String deviceInfo, String ipAddress) {
+        return refreshTokenService.refresh(refreshToken, deviceInfo, ipAddress);
+    }
+    
+    public boolean logout(String refreshToken) {
+        return refreshTokenService.revoke(refreshToken);
+    }
+    
+    // 모든 기기 로그아웃
+    public int logoutAll(String email) {
+        return userRepository.findIdByEmail(email)
+                .map(refreshTokenService::revokeAll)
+                .orElse(0);
+    }
+}
@@ -0,0 +1,94 @@
+package kr.salm.closet.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각 쓰기 합치기
+ * - 로그인 성공은 메모리에 사용자별 최신 시각만 남기고, flush-interval 마다 UPDATE 배치 한 번으로 기록
+ * - 같은 UPDATE 에서 이미 지난 잠금(locked_until)과 실패 횟수도 정리 → 로그인 경로에서 users 행을 직접 쓰지 않는다.
+ * 기록 중 들어온 더 새로운 시각은 남겨 두고, 실패하면 그대로 남아 다음 flush 에서 재시도한다.
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder {
+    
+    // SET 은 왼쪽부터 적용되므로 login_fail_count 를 locked_until 보다 먼저 (잠금 중이면 둘 다 유지)
+    private static final String UPDATE_SQL = """
+            UPDATE users
+            SET last_login_at = GREATEST(COALESCE(last_login_at, ?), ?),
+                login_fail_count = IF(locked_until > ?, login_fail_count, 0),
+                locked_until = IF(locked_until > ?, locked_until, NULL)
+            WHERE id = ?
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    
+    // 동시에 flush 하나만
+    private final Object flushLock = new Object();
+    private final Counter updates;
+    
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.updates = Counter.builder("auth.last-login.updates")
+                .description("로그인 시각을 합쳐 실행한 users UPDATE 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.last-login.pending", pending, Map::size)
+                .description("아직 기록되지 않은 로그인 시각 수")
+                .register(meterRegistry);
+    }
+    
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+    
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:30000}")
+    public void scheduledFlush() {
+        flush();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    public void flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Map.Entry<Long, LocalDateTime>> batch = List.copyOf(pending.entrySet());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (Map.Entry<Long, LocalDateTime> entry : batch) {
+                Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+                rows.add(new Object[] {loginAt, loginAt, now, now, entry.getKey()});
+            }
+            
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+            } catch (Exception e) {
+                log.error("Last login flush failed, {} users kept pending: {}", rows.size(), e.getMessage());
+                return;
+            }
+            // 기록한 값 그대로일 때만 제거 (그 사이 다시 로그인했으면 다음 flush 에서)
+            batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+            updates.increment(rows.size());
+            log.debug("Last login flushed: users={}", rows.size());
+        }
+    }
+}
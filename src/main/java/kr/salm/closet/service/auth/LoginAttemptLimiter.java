@@ -0,0 +1,171 @@
+package kr.salm.closet.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그인 실패 제한 (이메일별 / IP별 슬라이딩 윈도우, 메모리)
+ * - 윈도우를 SLOTS 칸으로 나눠 칸마다 (칸 번호, 실패 수) 를 long 하나에 담고 CAS 로 갱신 → 잠금 없음
+ *   같은 이메일로 몰리는 무차별 대입도 users 행을 건드리지 않는다.
+ * - 이메일은 email-max-failures, IP 는 ip-max-failures 를 넘으면 윈도우가 지날 때까지 차단 (해시 계산 전에 거절)
+ * - 성공하면 이메일 윈도우만 비운다 (같은 IP 의 다른 계정 실패는 유지)
+ * 노드마다 따로 세므로, 재시작/다른 노드에도 남아야 하는 잠금은 임계값에 닿을 때만 DB 에 기록한다 (LoginAttemptListener).
+ */
+@Component
+public class LoginAttemptLimiter {
+    
+    private static final int SLOTS = 10;
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    
+    private final long slotMillis;
+    private final int emailMaxFailures;
+    private final int ipMaxFailures;
+    private final Cache<String, Window> emailWindows;
+    private final Cache<String, Window> ipWindows;
+    private final Counter throttledEmail;
+    private final Counter throttledIp;
+    
+    public LoginAttemptLimiter(@Value("${auth.login-limit.window:15m}") Duration window,
+                               @Value("${auth.login-limit.email-max-failures:5}") int emailMaxFailures,
+                               @Value("${auth.login-limit.ip-max-failures:50}") int ipMaxFailures,
+                               @Value("${auth.login-limit.maximum-keys:100000}") long maximumKeys,
+                               MeterRegistry meterRegistry) {
+        this.slotMillis = Math.max(1, window.toMillis() / SLOTS);
+        this.emailMaxFailures = emailMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+        // 마지막 실패 후 윈도우가 지나면 센 것이 없으므로 제거
+        this.emailWindows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(window)
+                .recordStats()
+                .build();
+        this.ipWindows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(window)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, emailWindows, "loginAttemptsByEmail", "cache.manager", "auth");
+        CaffeineCacheMetrics.monitor(meterRegistry, ipWindows, "loginAttemptsByIp", "cache.manager", "auth");
+        
+        this.throttledEmail = Counter.builder("auth.login.throttled")
+                .tag("key", "email")
+                .description("실패 제한으로 거절한 로그인 수")
+                .register(meterRegistry);
+        this.throttledIp = Counter.builder("auth.login.throttled")
+                .tag("key", "ip")
+                .description("실패 제한으로 거절한 로그인 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 차단 중이면 풀릴 때까지 남은 시간 (email / ip 는 null 이면 검사하지 않음)
+     */
+    public Optional<Duration> blockedFor(String email, String ip) {
+        long now = System.currentTimeMillis();
+        long slot = now / slotMillis;
+        if (ip != null) {
+            Window window = ipWindows.getIfPresent(ip);
+            if (window != null && window.sum(slot) >= ipMaxFailures) {
+                throttledIp.increment();
+                return Optional.of(window.retryAfter(slot, now, slotMillis));
+            }
+        }
+        if (email != null) {
+            Window window = emailWindows.getIfPresent(normalize(email));
+            if (window != null && window.sum(slot) >= emailMaxFailures) {
+                throttledEmail.increment();
+                return Optional.of(window.retryAfter(slot, now, slotMillis));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 실패 기록 후 윈도우 안의 이메일 실패 수 반환
+     * email-max-failures 이상이면 잠긴 것 (잠금 DB 기록은 호출한 쪽에서 상태가 바뀔 때만)
+     */
+    public int recordFailure(String email, String ip) {
+        long slot = System.currentTimeMillis() / slotMillis;
+        if (ip != null) {
+            ipWindows.get(ip, key -> new Window()).increment(slot);
+        }
+        return emailWindows.get(normalize(email), key -> new Window()).increment(slot);
+    }
+    
+    public void recordSuccess(String email) {
+        emailWindows.invalidate(normalize(email));
+    }
+    
+    public int emailMaxFailures() {
+        return emailMaxFailures;
+    }
+    
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 키 하나의 슬라이딩 윈도우 (칸 = 칸 번호 << COUNT_BITS | 실패 수)
+     * 칸 번호가 현재 윈도우 밖이면 지난 칸이므로 세지 않고, 다음에 그 칸을 쓸 때 덮어쓴다.
+     */
+    static final class Window {
+        
+        private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+        
+        int increment(long slot) {
+            int index = (int) (slot % SLOTS);
+            while (true) {
+                long current = slots.get(index);
+                long next;
+                if (current >>> COUNT_BITS == slot) {
+                    if ((current & COUNT_MASK) == COUNT_MASK) {
+                        break;
+                    }
+                    next = current + 1;
+                } else {
+                    next = slot << COUNT_BITS | 1;
+                }
+                if (slots.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            return sum(slot);
+        }
+        
+        int sum(long slot) {
+            int total = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                long value = slots.get(i);
+                long valueSlot = value >>> COUNT_BITS;
+                if (valueSlot > slot - SLOTS && valueSlot <= slot) {
+                    total += (int) (value & COUNT_MASK);
+                }
+            }
+            return total;
+        }
+        
+        // 가장 오래된 실패 칸이 윈도우를 벗어나는 시각까지 (그 뒤 다시 세어 판단)
+        Duration retryAfter(long slot, long nowMillis, long slotMillis) {
+            long oldest = slot;
+            for (int i = 0; i < SLOTS; i++) {
+                long value = slots.get(i);
+                long valueSlot = value >>> COUNT_BITS;
+                if ((value & COUNT_MASK) > 0 && valueSlot > slot - SLOTS && valueSlot < oldest) {
+                    oldest = valueSlot;
+                }
+            }
+            return Duration.ofMillis(Math.max(slotMillis, (oldest + SLOTS) * slotMillis - nowMillis));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package kr.salm.closet.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.salm.closet.config.jwt.VerifiedTokenCache;
+import kr.salm.closet.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 비밀번호 로그인 결과 → 실패 제한 / 잠금 / 마지막 로그인 기록 (폼 로그인, API 로그인 공통)
+ * - 실패: 메모리 윈도우만 증가, 이메일 실패가 임계값에 닿으면 잠겨 있지 않을 때만 locked_until 기록
+ *   (JPQL 벌크 UPDATE 라 엔티티 리스너가 돌지 않으므로 사용자 캐시와 검증된 JWT 캐시를 직접 비운다)
+ * - 성공: 이메일 윈도우 비우고 마지막 로그인 시각은 LastLoginRecorder 로 모아서 기록
+ * Remember-me, JWT 인증은 비밀번호 확인이 아니므로 제외한다.
+ */
+@Slf4j
+@Component
+public class LoginAttemptListener {
+    
+    private final LoginAttemptLimiter limiter;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final UserDetailsCache userDetailsCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lockout;
+    private final Counter lockouts;
+    
+    public LoginAttemptListener(LoginAttemptLimiter limiter,
+                                LastLoginRecorder lastLoginRecorder,
+                                UserDetailsCache userDetailsCache,
+                                VerifiedTokenCache verifiedTokenCache,
+                                UserRepository userRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${auth.login-limit.lockout:30m}") Duration lockout,
+                                MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.userDetailsCache = userDetailsCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.lockout = lockout;
+        this.lockouts = Counter.builder("auth.login.lockouts")
+                .description("실패 누적으로 잠근 계정 수")
+                .register(meterRegistry);
+    }
+    
+    @EventListener
+    public void onFailure(AuthenticationFailureBadCredentialsEvent event) {
+        Authentication authentication = event.getAuthentication();
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken) || authentication.getName() == null) {
+            return;
+        }
+        String email = authentication.getName();
+        int failures = limiter.recordFailure(email, remoteAddress(authentication));
+        // 차단되면 필터에서 먼저 거르므로 여기까지 오는 건 임계값에 닿은 직후 (동시 요청 몇 개)
+        if (failures >= limiter.emailMaxFailures()) {
+            lock(email, failures);
+        }
+    }
+    
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        Authentication authentication = event.getAuthentication();
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken)) {
+            return;
+        }
+        String email = authentication.getName();
+        limiter.recordSuccess(email);
+        userDetailsCache.get(email)
+                .ifPresent(user -> lastLoginRecorder.record(user.id(), LocalDateTime.now()));
+    }
+    
+    // 잠금 상태가 바뀔 때만 쓰기 (이미 잠겼거나 없는 이메일이면 0 행)
+    private void lock(String email, int failures) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockout);
+        Integer locked = transactionTemplate.execute(status -> userRepository.lockUntil(email, failures, now, until));
+        if (locked != null && locked > 0) {
+            userDetailsCache.evict(email);
+            verifiedTokenCache.invalidateUser(email);
+            lockouts.increment();
+            log.warn("Account locked after {} failed logins until {}: {}", failures, until, email);
+        }
+    }
+    
+    private static String remoteAddress(Authentication authentication) {
+        return authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.salm.closet.service.auth;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 로그인 실패 제한에 걸림 (retryAfter 뒤에 다시 시도)
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final Duration retryAfter;
+    
+    public LoginThrottledException(Duration retryAfter) {
+        super("Too many failed login attempts, retry after " + retryAfter);
+        this.retryAfter = retryAfter;
+    }
+}
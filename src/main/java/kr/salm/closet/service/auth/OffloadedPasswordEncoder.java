@@ -0,0 +1,113 @@
+package kr.salm.closet.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 고정 크기 풀에서 실행하는 PasswordEncoder
+ * - 동시에 도는 해시는 threads 개로 제한 → 로그인이 몰려도 날씨/대시보드 요청이 CPU 를 잃지 않는다.
+ * - 대기열이 queue-capacity 를 넘거나 wait-timeout 안에 끝나지 않으면 PasswordHashingOverloadedException (503)
+ * - 호출한 스레드는 결과를 기다리기만 한다 (가상 스레드 모드에서는 플랫폼 스레드도 점유하지 않음)
+ * upgradeEncoding 은 위임 인코더를 따르므로, strength 를 올리면 로그인 성공 시 해시가 새 비용으로 바뀐다.
+ */
+@Slf4j
+public class OffloadedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+    
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                    Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+        
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("op", "encode")
+                .description("비밀번호 해시 계산 시간 (대기 제외, strength 조정 기준)")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("op", "matches")
+                .description("비밀번호 해시 계산 시간 (대기 제외, strength 조정 기준)")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("해시 풀 포화로 거절한 요청 수")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+    
+    // 해시 계산 없이 저장된 해시의 비용만 비교하므로 호출 스레드에서 처리
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+    
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingOverloadedException("Password hashing queue is full");
+        }
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 빠지고, 실행 중이면 끝까지 돌지만 결과는 버린다
+            future.cancel(false);
+            rejected.increment();
+            throw new PasswordHashingOverloadedException("Password hashing timed out after " + Duration.ofNanos(waitTimeoutNanos));
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
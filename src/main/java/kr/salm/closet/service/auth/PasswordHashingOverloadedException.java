@@ -0,0 +1,13 @@
+package kr.salm.closet.service.auth;
+
+/**
+ * 비밀번호 해시 풀이 가득 차서 요청을 받지 않음 (503 으로 응답)
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,292 @@
+package kr.salm.closet.service.auth;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.salm.closet.config.jwt.JwtTokenProvider;
+import kr.salm.closet.domain.RefreshToken;
+import kr.salm.closet.dto.TokenResponse;
+import kr.salm.closet.repository.RefreshTokenRepository;
+import kr.salm.closet.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Refresh Token 저장소 (회전/폐기/재사용 탐지)
+ * - DB 에는 토큰 SHA-256 만 저장, 회전하면 이전 토큰은 revoked_at 을 찍고 만료 시각까지 남긴다.
+ * - 폐기된 토큰이 다시 오면 탈취로 보고 그 사용자의 토큰을 모두 폐기한다.
+ *   판정은 항상 DB 기준: 회전 UPDATE 가 0 행이면 토큰 행을 조회해 폐기 여부를 확인한다.
+ * - 폐기된 해시는 메모리 Bloom filter 에도 넣어 둔다. 필터는 빠른 거절용 힌트일 뿐이라
+ *   ("폐기됐을 수 있음"이면 회전 전에 미리 DB 확인), 재시작/재구성 직후 필터에 없어도 탐지는 빠지지 않는다.
+ * - 만료된 행은 주기적으로 idx_expires 범위 삭제 (purge-batch-size 행씩), 이후 필터를 다시 만든다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+    
+    private static final String PURGE_SQL = "DELETE FROM refresh_tokens WHERE expires_at < ? LIMIT ?";
+    private static final HexFormat HEX = HexFormat.of();
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final int purgeBatchSize;
+    
+    // 조회는 잠금 없이, 추가/교체만 lock 으로 직렬화 (폐기는 조회보다 훨씬 드묾)
+    private final Object filterLock = new Object();
+    private volatile RevokedTokenFilter filter;
+    private boolean rebuilding;
+    private final List<byte[]> revokedDuringRebuild = new ArrayList<>();
+    
+    private final Counter rotated;
+    private final Counter rejected;
+    private final Counter reused;
+    
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               UserDetailsCache userDetailsCache,
+                               JwtTokenProvider jwtTokenProvider,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${auth.refresh.filter.expected-revocations:100000}") long expectedRevocations,
+                               @Value("${auth.refresh.filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${auth.refresh.purge-batch-size:1000}") int purgeBatchSize,
+                               MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.purgeBatchSize = purgeBatchSize;
+        this.filter = new RevokedTokenFilter(expectedRevocations, falsePositiveRate);
+        
+        this.rotated = refreshCounter(meterRegistry, "rotated");
+        this.rejected = refreshCounter(meterRegistry, "rejected");
+        this.reused = refreshCounter(meterRegistry, "reused");
+    }
+    
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh")
+                .tag("result", result)
+                .description("Refresh Token 회전 요청 결과")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void init() {
+        try {
+            rebuildFilter();
+        } catch (Exception e) {
+            log.warn("Revoked token filter load failed, starting empty: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 로그인 성공 시 Access/Refresh Token 발급
+     */
+    public TokenResponse issue(UserCredentials user, String deviceInfo, String ipAddress) {
+        return transactionTemplate.execute(status -> store(user, deviceInfo, ipAddress));
+    }
+    
+    /**
+     * Refresh Token 회전: 이전 토큰 폐기 + 새 토큰 발급 (한 트랜잭션)
+     * 서명/만료가 틀리거나 refresh 토큰이 아니거나, 이미 폐기/만료됐거나, 계정이 잠기거나 비활성이면 empty
+     */
+    public Optional<TokenResponse> refresh(String token, String deviceInfo, String ipAddress) {
+        Claims claims = jwtTokenProvider.parseRefreshClaims(token);
+        if (claims == null) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        byte[] digest = digest(token);
+        String hash = HEX.formatHex(digest);
+        
+        // 빠른 거절: 필터가 폐기됐을 수 있다고 하면 사용자 조회/회전 전에 확인
+        if (filter.mightContain(digest) && revokeAllIfReused(hash)) {
+            return Optional.empty();
+        }
+        
+        UserCredentials user = userDetailsCache.get(claims.getSubject())
+                .filter(found -> Boolean.TRUE.equals(found.active()) && !found.isLocked())
+                .orElse(null);
+        if (user == null) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        
+        TokenResponse issued = transactionTemplate.execute(status -> {
+            // 동시에 같은 토큰으로 회전하면 한 요청만 1 행을 갱신한다
+            if (refreshTokenRepository.revoke(hash, LocalDateTime.now()) == 0) {
+                return null;
+            }
+            markRevokedAfterCommit(List.of(digest));
+            return store(user, deviceInfo, ipAddress);
+        });
+        if (issued != null) {
+            rotated.increment();
+            return Optional.of(issued);
+        }
+        // 회전 실패: 필터에 없던 폐기 토큰(재시작/재구성 직후, 다른 인스턴스에서 폐기)도 여기서 잡는다
+        if (!revokeAllIfReused(hash)) {
+            rejected.increment();
+        }
+        return Optional.empty();
+    }
+    
+    // 이미 폐기된 토큰이면 재사용 → 탈취 가능성, 해당 사용자 토큰 전부 폐기
+    private boolean revokeAllIfReused(String hash) {
+        Optional<RefreshToken> stored = refreshTokenRepository.findByTokenHash(hash);
+        if (stored.isEmpty() || !stored.get().isRevoked()) {
+            return false;
+        }
+        Long userId = stored.get().getUser().getId();
+        log.warn("Revoked refresh token reused: userId={}", userId);
+        revokeAll(userId);
+        reused.increment();
+        return true;
+    }
+    
+    /**
+     * 토큰 하나 폐기 (로그아웃), 이미 폐기/만료됐거나 모르는 토큰이면 false
+     */
+    public boolean revoke(String token) {
+        if (jwtTokenProvider.parseRefreshClaims(token) == null) {
+            return false;
+        }
+        byte[] digest = digest(token);
+        Boolean revoked = transactionTemplate.execute(status -> {
+            if (refreshTokenRepository.revoke(HEX.formatHex(digest), LocalDateTime.now()) == 0) {
+                return false;
+            }
+            markRevokedAfterCommit(List.of(digest));
+            return true;
+        });
+        return Boolean.TRUE.equals(revoked);
+    }
+    
+    /**
+     * 사용자의 유효한 토큰 전부 폐기 (모든 기기 로그아웃, 재사용 탐지)
+     */
+    public int revokeAll(Long userId) {
+        Integer count = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<byte[]> digests = refreshTokenRepository.findActiveHashesByUserId(userId, now).stream()
+                    .map(HEX::parseHex)
+                    .toList();
+            refreshTokenRepository.revokeAllByUserId(userId, now);
+            markRevokedAfterCommit(digests);
+            return digests.size();
+        });
+        log.info("Refresh tokens revoked: userId={}, count={}", userId, count);
+        return count == null ? 0 : count;
+    }
+    
+    /**
+     * 만료된 토큰 삭제 (idx_expires 범위, 배치 단위로 잘라 잠금을 짧게) 후 폐기 필터 재구성
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            log.info("Expired refresh tokens purged: {}", total);
+        }
+        rebuildFilter();
+    }
+    
+    /**
+     * 폐기됐지만 만료 전인 해시로 필터를 새로 만들어 교체 (만료된 해시는 빠짐)
+     * 조회 중에 폐기된 해시는 따로 모았다가 교체할 때 함께 넣는다.
+     */
+    public void rebuildFilter() {
+        synchronized (filterLock) {
+            rebuilding = true;
+        }
+        try {
+            List<String> hashes = transactionTemplate.execute(status -> {
+                try (Stream<String> revoked = refreshTokenRepository.streamRevokedHashes(LocalDateTime.now())) {
+                    return revoked.toList();
+                }
+            });
+            RevokedTokenFilter next = new RevokedTokenFilter(
+                    Math.max(expectedRevocations, hashes.size() * 2L), falsePositiveRate);
+            hashes.forEach(hash -> next.add(HEX.parseHex(hash)));
+            synchronized (filterLock) {
+                revokedDuringRebuild.forEach(next::add);
+                filter = next;
+            }
+            log.debug("Revoked token filter rebuilt: hashes={}, bits={}", hashes.size(), next.bitSize());
+        } finally {
+            synchronized (filterLock) {
+                rebuilding = false;
+                revokedDuringRebuild.clear();
+            }
+        }
+    }
+    
+    private TokenResponse store(UserCredentials user, String deviceInfo, String ipAddress) {
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.email());
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(userRepository.getReferenceById(user.id()))
+                .tokenHash(HEX.formatHex(digest(refreshToken)))
+                .deviceInfo(deviceInfo)
+                .ipAddress(ipAddress)
+                .expiresAt(LocalDateTime.now().plusNanos(jwtTokenProvider.getRefreshTokenExpiration() * 1_000_000))
+                .build());
+        return new TokenResponse(jwtTokenProvider.createAccessToken(user.email(), user.role().name()), refreshToken);
+    }
+    
+    // 커밋된 폐기만 필터에 반영
+    private void markRevokedAfterCommit(List<byte[]> digests) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (filterLock) {
+                    digests.forEach(filter::add);
+                    if (rebuilding) {
+                        revokedDuringRebuild.addAll(digests);
+                    }
+                }
+            }
+        });
+    }
+    
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package kr.salm.closet.service.auth;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 Refresh Token 해시 Bloom filter
+ * - false 면 확실히 폐기되지 않음 (DB 확인 생략), true 면 폐기됐을 수 있음 (DB 로 확인)
+ * - 입력이 SHA-256 이라 이미 고르게 분포 → 앞 16 바이트를 두 해시로 쓰는 double hashing
+ * - 비트 설정은 CAS 라 잠금 없이 동시에 추가/조회 가능, 삭제는 안 되므로 주기적으로 새로 만든다.
+ */
+public final class RevokedTokenFilter {
+    
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    
+    /**
+     * expectedInsertions 개를 넣었을 때 오탐률이 fpp 가 되도록 크기 결정
+     */
+    public RevokedTokenFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact(bitCount / 64));
+    }
+    
+    public void add(byte[] digest) {
+        long h1 = longAt(digest, 0);
+        long h2 = longAt(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+    
+    public boolean mightContain(byte[] digest) {
+        long h1 = longAt(digest, 0);
+        long h2 = longAt(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    public long bitSize() {
+        return bitCount;
+    }
+    
+    private static long longAt(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
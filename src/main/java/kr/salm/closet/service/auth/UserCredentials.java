@@ -0,0 +1,23 @@
+package kr.salm.closet.service.auth;
+
+import kr.salm.closet.domain.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증에 필요한 사용자 컬럼만 (User 엔티티 대신 조회/캐시)
+ */
+public record UserCredentials(
+        Long id,
+        String email,
+        String passwordHash,
+        User.Role role,
+        Boolean active,
+        LocalDateTime lockedUntil
+) {
+    
+    // User.isLocked 와 동일 (캐시에 있는 동안 잠금 시간이 지나면 풀린 것으로 본다)
+    public boolean isLocked() {
+        return lockedUntil != null && lockedUntil.isAfter(LocalDateTime.now());
+    }
+}
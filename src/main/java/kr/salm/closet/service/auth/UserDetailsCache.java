@@ -0,0 +1,59 @@
+package kr.salm.closet.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.salm.closet.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이메일 → 인증 정보 캐시 (폼 로그인, JWT 인증의 사용자 조회)
+ * - 크기 제한 + TTL, 없는 사용자는 캐시하지 않음
+ * - users 행을 바꾸는 쪽이 evict 로 제거 (비밀번호 재해시: CustomUserDetailsService, 잠금: LoginAttemptListener)
+ */
+@Component
+public class UserDetailsCache {
+    
+    private final UserRepository userRepository;
+    private final Cache<String, UserCredentials> cache;
+    
+    public UserDetailsCache(UserRepository userRepository,
+                            @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${auth.user-cache.ttl:5m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails", "cache.manager", "auth");
+    }
+    
+    public Optional<UserCredentials> get(String email) {
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findCredentialsByEmail(key).orElse(null)));
+    }
+    
+    /**
+     * 트랜잭션 안이면 완료 후 제거 (커밋 전 데이터로 다시 적재되는 것 방지)
+     */
+    public void evict(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(email);
+                }
+            });
+        } else {
+            cache.invalidate(email);
+        }
+    }
+}
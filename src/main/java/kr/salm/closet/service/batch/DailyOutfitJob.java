@@ -0,0 +1,229 @@
+package kr.salm.closet.service.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.salm.closet.dto.WeatherBatchRequest;
+import kr.salm.closet.dto.WeatherResponse;
+import kr.salm.closet.repository.UserRepository;
+import kr.salm.closet.service.WeatherService;
+import kr.salm.closet.service.recommend.ComfortCalibration;
+import kr.salm.closet.service.recommend.OutfitRecommender;
+import kr.salm.closet.service.recommend.RecommendedOutfit;
+import kr.salm.closet.service.wardrobe.ClothItem;
+import kr.salm.closet.service.wardrobe.Wardrobe;
+import kr.salm.closet.service.wardrobe.WardrobeIndex;
+import kr.salm.closet.service.weather.GridCell;
+import kr.salm.closet.service.weather.WeatherCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오늘의 코디 야간 일괄 계산
+ * 1. 활성 사용자를 기본 위치 격자별로 묶고 격자마다 날씨를 한 번만 조회 (다중 좌표 요청)
+ * 2. 사용자를 chunk-size 단위로 나눠 고정 크기 풀에서 병렬 추천 (옷장은 chunk 당 쿼리 한 번)
+ * 3. chunk 결과를 JDBC 배치로 outfits(is_ai_generated, recommended_for) / outfit_clothes 에 기록
+ * 아침 대시보드는 (user_id, recommended_for) 키 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+public class DailyOutfitJob {
+    
+    private static final String DELETE_SQL =
+            "DELETE FROM outfits WHERE user_id = ? AND recommended_for = ?";
+    private static final String INSERT_OUTFIT_SQL = """
+            INSERT INTO outfits (user_id, name, description, temp_min, temp_max, weather_type,
+                                 is_ai_generated, recommended_for)
+            VALUES (?, ?, ?, ?, ?, ?, TRUE, ?)
+            """;
+    // 방금 넣은 코디 id 는 (user_id, recommended_for) 유니크 키로 찾는다 (배치 insert 는 생성 키를 돌려주지 않음)
+    private static final String INSERT_CLOTH_SQL = """
+            INSERT INTO outfit_clothes (outfit_id, cloth_id, layer_order)
+            SELECT o.id, ?, ? FROM outfits o WHERE o.user_id = ? AND o.recommended_for = ?
+            """;
+    
+    private final UserRepository userRepository;
+    private final WeatherService weatherService;
+    private final WeatherCache weatherCache;
+    private final WardrobeIndex wardrobeIndex;
+    private final OutfitRecommender outfitRecommender;
+    private final ComfortCalibration comfortCalibration;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final double defaultLat;
+    private final double defaultLon;
+    private final int parallelism;
+    private final int chunkSize;
+    private final Duration weatherTimeout;
+    private final ZoneId zone;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer duration;
+    private final Counter written;
+    
+    public DailyOutfitJob(UserRepository userRepository,
+                          WeatherService weatherService,
+                          WeatherCache weatherCache,
+                          WardrobeIndex wardrobeIndex,
+                          OutfitRecommender outfitRecommender,
+                          ComfortCalibration comfortCalibration,
+                          JdbcTemplate jdbcTemplate,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${recommend.daily.default-lat:37.5665}") double defaultLat,
+                          @Value("${recommend.daily.default-lon:126.9780}") double defaultLon,
+                          @Value("${recommend.daily.parallelism:4}") int parallelism,
+                          @Value("${recommend.daily.chunk-size:500}") int chunkSize,
+                          @Value("${recommend.daily.weather-timeout:60s}") Duration weatherTimeout,
+                          @Value("${recommend.daily.zone:Asia/Seoul}") String zone,
+                          MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.weatherService = weatherService;
+        this.weatherCache = weatherCache;
+        this.wardrobeIndex = wardrobeIndex;
+        this.outfitRecommender = outfitRecommender;
+        this.comfortCalibration = comfortCalibration;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultLat = defaultLat;
+        this.defaultLon = defaultLon;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.weatherTimeout = weatherTimeout;
+        this.zone = ZoneId.of(zone);
+        
+        this.duration = Timer.builder("recommend.daily.duration")
+                .description("오늘의 코디 일괄 계산 소요 시간")
+                .register(meterRegistry);
+        this.written = Counter.builder("recommend.daily.outfits")
+                .description("일괄 계산으로 기록한 오늘의 코디 수")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(cron = "${recommend.daily.cron:0 30 5 * * *}", zone = "${recommend.daily.zone:Asia/Seoul}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Daily outfit job is already running, skipped");
+            return;
+        }
+        try {
+            duration.record(() -> run(LocalDate.now(zone)));
+        } finally {
+            running.set(false);
+        }
+    }
+    
+    /**
+     * date 의 오늘의 코디 계산 (같은 날짜로 다시 실행하면 덮어씀)
+     */
+    public void run(LocalDate date) {
+        long start = System.nanoTime();
+        
+        // 1. 격자별 사용자 묶기
+        Map<GridCell, List<Long>> usersByCell = new LinkedHashMap<>();
+        for (UserHome home : userRepository.findActiveHomes()) {
+            double lat = home.lat() == null ? defaultLat : home.lat().doubleValue();
+            double lon = home.lon() == null ? defaultLon : home.lon().doubleValue();
+            usersByCell.computeIfAbsent(weatherCache.cellOf(lat, lon), cell -> new ArrayList<>()).add(home.userId());
+        }
+        if (usersByCell.isEmpty()) {
+            return;
+        }
+        
+        // 2. 격자당 날씨 한 번
+        List<GridCell> cells = List.copyOf(usersByCell.keySet());
+        List<WeatherResponse> weathers = weatherService.getCurrentWeatherBatchAsync(cells.stream()
+                        .map(cell -> new WeatherBatchRequest.Location(cell.latitude(), cell.longitude()))
+                        .toList())
+                .block(weatherTimeout);
+        
+        // 3. chunk 단위 병렬 추천 + 배치 기록
+        List<Chunk> chunks = new ArrayList<>();
+        int users = 0;
+        for (int i = 0; i < cells.size(); i++) {
+            WeatherResponse weather = weathers == null ? null : weathers.get(i);
+            if (weather == null || !weather.isSuccess()) {
+                log.warn("No weather for cell {}, skipped {} users", cells.get(i).key(),
+                        usersByCell.get(cells.get(i)).size());
+                continue;
+            }
+            List<Long> userIds = usersByCell.get(cells.get(i));
+            users += userIds.size();
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                chunks.add(new Chunk(weather, userIds.subList(from, Math.min(userIds.size(), from + chunkSize))));
+            }
+        }
+        
+        int outfits = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("daily-outfit-", 0).factory())) {
+            List<Future<Integer>> results = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                results.add(executor.submit(() -> process(chunk, date)));
+            }
+            for (Future<Integer> result : results) {
+                try {
+                    outfits += result.get();
+                } catch (Exception e) {
+                    log.error("Daily outfit chunk failed", e);
+                }
+            }
+        }
+        
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Daily outfits for {}: {} users in {} cells, {} outfits written in {}s ({} users/s)",
+                date, users, cells.size(), outfits, String.format("%.1f", seconds),
+                String.format("%.0f", users / Math.max(seconds, 0.001)));
+    }
+    
+    private int process(Chunk chunk, LocalDate date) {
+        WeatherResponse weather = chunk.weather();
+        Map<Long, Wardrobe> wardrobes = wardrobeIndex.snapshots(chunk.userIds());
+        Date day = Date.valueOf(date);
+        
+        List<Object[]> deletes = new ArrayList<>(chunk.userIds().size());
+        List<Object[]> outfitRows = new ArrayList<>();
+        List<Object[]> clothRows = new ArrayList<>();
+        for (Long userId : chunk.userIds()) {
+            deletes.add(new Object[] {userId, day});
+            List<RecommendedOutfit> best = outfitRecommender.recommend(wardrobes.get(userId),
+                    comfortCalibration.correct(userId, weather.getFeelsLike()), weather.getWeatherType(), 1).outfits();
+            if (best.isEmpty()) {
+                continue;
+            }
+            outfitRows.add(new Object[] {
+                    userId, "오늘의 코디", weather.getDescription(),
+                    weather.getTemperature(), weather.getTemperature(), weather.getWeatherType(), day
+            });
+            for (ClothItem item : best.get(0).items()) {
+                clothRows.add(new Object[] {item.id(), item.layerOrder(), userId, day});
+            }
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            jdbcTemplate.batchUpdate(INSERT_OUTFIT_SQL, outfitRows);
+            jdbcTemplate.batchUpdate(INSERT_CLOTH_SQL, clothRows);
+        });
+        written.increment(outfitRows.size());
+        return outfitRows.size();
+    }
+    
+    private record Chunk(WeatherResponse weather, List<Long> userIds) {}
+}
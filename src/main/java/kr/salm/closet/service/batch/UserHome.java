@@ -0,0 +1,8 @@
+package kr.salm.closet.service.batch;
+
+import java.math.BigDecimal;
+
+/**
+ * 활성 사용자 id + 기본 위치 (위치 미설정이면 null)
+ */
+public record UserHome(Long userId, BigDecimal lat, BigDecimal lon) {}
@@ -0,0 +1,189 @@
+package kr.salm.closet.service.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.salm.closet.domain.Cloth;
+import kr.salm.closet.domain.TagMask;
+import kr.salm.closet.dto.ClothImportRequest;
+import kr.salm.closet.dto.ImportResult;
+import kr.salm.closet.dto.OutfitImportRequest;
+import kr.salm.closet.service.category.CategoryCatalog;
+import kr.salm.closet.service.category.CategoryTree;
+import kr.salm.closet.service.wardrobe.WardrobeIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 옷/코디 일괄 등록 (JDBC 배치)
+ * 엔티티 id 가 IDENTITY(AUTO_INCREMENT)라 Hibernate 는 insert 를 배치로 묶지 못한다.
+ * 일괄 등록은 엔티티를 거치지 않고 batch-size 행씩 executeBatch 로 보내고, 전체를 한 트랜잭션으로 처리한다.
+ * 코디 → 코디 옷은 배치 insert 의 생성 키로 연결한다.
+ */
+@Slf4j
+@Component
+public class WardrobeImporter {
+    
+    private static final String INSERT_CLOTH_SQL = """
+            INSERT INTO clothes (user_id, category_id, name, brand, color, image_path, product_url,
+                                 temp_min, temp_max, weather_tags, style_tags, weather_tag_mask, style_tag_mask)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_OUTFIT_SQL = """
+            INSERT INTO outfits (user_id, name, description, temp_min, temp_max, weather_type, occasion)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_OUTFIT_CLOTH_SQL =
+            "INSERT INTO outfit_clothes (outfit_id, cloth_id, layer_order) VALUES (?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryCatalog categoryCatalog;
+    private final WardrobeIndex wardrobeIndex;
+    private final int batchSize;
+    private final Timer clothImports;
+    private final Timer outfitImports;
+    
+    public WardrobeImporter(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            CategoryCatalog categoryCatalog,
+                            WardrobeIndex wardrobeIndex,
+                            @Value("${wardrobe.import.batch-size:500}") int batchSize,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.categoryCatalog = categoryCatalog;
+        this.wardrobeIndex = wardrobeIndex;
+        this.batchSize = batchSize;
+        this.clothImports = Timer.builder("wardrobe.import.duration")
+                .tag("type", "clothes")
+                .description("일괄 등록 소요 시간")
+                .register(meterRegistry);
+        this.outfitImports = Timer.builder("wardrobe.import.duration")
+                .tag("type", "outfits")
+                .description("일괄 등록 소요 시간")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 옷 일괄 등록 (없는 카테고리의 옷은 건너뜀)
+     */
+    public ImportResult importClothes(Long userId, List<ClothImportRequest.Item> items) {
+        CategoryTree tree = categoryCatalog.tree();
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (ClothImportRequest.Item item : items) {
+            if (!tree.contains(item.categoryId())) {
+                continue;
+            }
+            List<Cloth.WeatherTag> weatherTags = tagsOf(item.weatherTags()).stream()
+                    .map(Cloth.WeatherTag::fromValue).filter(Objects::nonNull).distinct().toList();
+            List<Cloth.StyleTag> styleTags = tagsOf(item.styleTags()).stream()
+                    .map(Cloth.StyleTag::fromValue).filter(Objects::nonNull).distinct().toList();
+            rows.add(new Object[] {userId, item.categoryId(), item.name(), item.brand(), item.color(),
+                    item.imagePath(), item.productUrl(), item.tempMin(), item.tempMax(),
+                    TagMask.toJson(weatherTags), TagMask.toJson(styleTags),
+                    TagMask.of(weatherTags), TagMask.of(styleTags)});
+        }
+        if (!rows.isEmpty()) {
+            clothImports.record(() -> transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_CLOTH_SQL, rows, batchSize, (ps, row) -> {
+                        for (int i = 0; i < row.length; i++) {
+                            ps.setObject(i + 1, row[i]);
+                        }
+                    })));
+            wardrobeIndex.invalidate(userId);
+        }
+        log.info("Clothes imported: userId={}, imported={}, skipped={}",
+                userId, rows.size(), items.size() - rows.size());
+        return new ImportResult(rows.size(), items.size() - rows.size());
+    }
+    
+    /**
+     * 코디 일괄 등록 (내 옷이 아닌 clothId 는 빼고, 남는 옷이 없는 코디는 건너뜀)
+     */
+    public ImportResult importOutfits(Long userId, List<OutfitImportRequest.Item> items) {
+        Set<Long> owned = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM clothes WHERE user_id = ?", Long.class, userId));
+        List<OutfitImportRequest.Item> outfits = new ArrayList<>(items.size());
+        List<List<Long>> clothIds = new ArrayList<>(items.size());
+        for (OutfitImportRequest.Item item : items) {
+            List<Long> ids = item.clothIds().stream().filter(owned::contains).distinct().toList();
+            if (!ids.isEmpty()) {
+                outfits.add(item);
+                clothIds.add(ids);
+            }
+        }
+        if (!outfits.isEmpty()) {
+            outfitImports.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < outfits.size(); from += batchSize) {
+                    int to = Math.min(outfits.size(), from + batchSize);
+                    insertOutfits(userId, outfits.subList(from, to), clothIds.subList(from, to));
+                }
+            }));
+        }
+        log.info("Outfits imported: userId={}, imported={}, skipped={}",
+                userId, outfits.size(), items.size() - outfits.size());
+        return new ImportResult(outfits.size(), items.size() - outfits.size());
+    }
+    
+    // 코디 한 배치 insert → 생성 키로 코디 옷 배치 insert
+    private void insertOutfits(Long userId, List<OutfitImportRequest.Item> outfits, List<List<Long>> clothIds) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_OUTFIT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OutfitImportRequest.Item item = outfits.get(i);
+                        ps.setLong(1, userId);
+                        ps.setString(2, item.name());
+                        ps.setString(3, item.description());
+                        ps.setObject(4, item.tempMin(), Types.INTEGER);
+                        ps.setObject(5, item.tempMax(), Types.INTEGER);
+                        ps.setString(6, item.weatherType() != null ? item.weatherType().name() : "CLEAR");
+                        ps.setString(7, item.occasion());
+                    }
+                    
+                    @Override
+                    public int getBatchSize() {
+                        return outfits.size();
+                    }
+                },
+                keys);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        if (generated.size() != outfits.size()) {
+            throw new IllegalStateException("Generated keys mismatch: expected " + outfits.size()
+                    + ", got " + generated.size());
+        }
+        
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < outfits.size(); i++) {
+            long outfitId = ((Number) generated.get(i).values().iterator().next()).longValue();
+            List<Long> ids = clothIds.get(i);
+            for (int layer = 0; layer < ids.size(); layer++) {
+                rows.add(new Object[] {outfitId, ids.get(layer), layer});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTFIT_CLOTH_SQL, rows);
+    }
+    
+    private static List<String> tagsOf(List<String> tags) {
+        return tags == null ? List.of() : tags;
+    }
+}
@@ -0,0 +1,82 @@
+package kr.salm.closet.service.category;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 애플리케이션 전역 카테고리 트리 (cloth_categories 는 거의 바뀌지 않음)
+ * - 시작 시 한 번 읽어 불변 스냅샷으로 보관, 조회 경로에서는 DB 를 사용하지 않는다.
+ * - 카테고리가 바뀌면 새 스냅샷을 만들어 참조를 통째로 교체 (읽는 쪽은 항상 일관된 트리를 본다)
+ *   카테고리를 바꾸는 쪽이 reloadAfterCommit 을 호출한다 (DB 를 직접 고쳤으면 관리자 reload API)
+ * - 교체 후 CategoryTreeReloadedEvent 발행 (카테고리 정보를 담은 캐시 무효화용)
+ */
+@Slf4j
+@Component
+public class CategoryCatalog {
+    
+    private static final String CATEGORIES_SQL =
+            "SELECT id, name, parent_id, layer_order, icon FROM cloth_categories";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile CategoryTree tree = CategoryTree.EMPTY;
+    
+    public CategoryCatalog(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @PostConstruct
+    public void init() {
+        try {
+            tree = load();
+            log.info("Category tree loaded: {} categories", tree.size());
+        } catch (Exception e) {
+            log.warn("Category tree load failed, starting empty: {}", e.getMessage());
+        }
+    }
+    
+    public CategoryTree tree() {
+        return tree;
+    }
+    
+    /**
+     * DB 에서 다시 읽어 원자적으로 교체
+     */
+    public synchronized CategoryTree reload() {
+        tree = load();
+        log.info("Category tree reloaded: {} categories", tree.size());
+        eventPublisher.publishEvent(new CategoryTreeReloadedEvent(tree));
+        return tree;
+    }
+    
+    /**
+     * 트랜잭션 안이면 커밋 후 다시 읽음 (변경 전 데이터로 스냅샷을 만들지 않도록)
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+    
+    private CategoryTree load() {
+        return CategoryTree.of(jdbcTemplate.query(CATEGORIES_SQL, (rs, rowNum) -> new CategoryTree.Row(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getObject("parent_id", Long.class),
+                rs.getInt("layer_order"),
+                rs.getString("icon"))));
+    }
+}
@@ -0,0 +1,147 @@
+package kr.salm.closet.service.category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 옷 카테고리 트리 스냅샷 (불변)
+ * - 노드 배열을 카테고리 id 로 바로 인덱싱 (id 는 작은 자동 증가 값)
+ * - 부모/최상위/레이어 순서/자식 조회는 배열 접근 한 번
+ * - 조상 판정은 DFS 진입/이탈 순번 구간 비교로 O(1)
+ * 없는 id 는 null / 빈 목록 / 0 을 반환한다.
+ */
+public final class CategoryTree {
+    
+    public static final CategoryTree EMPTY = CategoryTree.of(List.of());
+    
+    private final Node[] byId;
+    private final List<Node> roots;
+    
+    private CategoryTree(Node[] byId, List<Node> roots) {
+        this.byId = byId;
+        this.roots = roots;
+    }
+    
+    /**
+     * 평탄한 행 목록으로 트리 구성 (부모가 없는 행은 최상위, 순환은 허용하지 않음)
+     */
+    public static CategoryTree of(Collection<Row> rows) {
+        int maxId = rows.stream().mapToInt(row -> Math.toIntExact(row.id())).max().orElse(0);
+        Row[] rowById = new Row[maxId + 1];
+        List<List<Long>> childIds = new ArrayList<>(maxId + 1);
+        for (int i = 0; i <= maxId; i++) {
+            childIds.add(new ArrayList<>());
+        }
+        for (Row row : rows) {
+            rowById[(int) row.id()] = row;
+        }
+        List<Long> rootIds = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.parentId() == null || !contains(rowById, row.parentId())) {
+                rootIds.add(row.id());
+            } else {
+                childIds.get((int) (long) row.parentId()).add(row.id());
+            }
+        }
+        rootIds.sort(null);
+        childIds.forEach(ids -> ids.sort(null));
+        
+        Node[] byId = new Node[maxId + 1];
+        int[] clock = {0};
+        for (Long rootId : rootIds) {
+            build(rootId, 0L, rootId, 0, rowById, childIds, byId, clock);
+        }
+        List<Node> roots = rootIds.stream().map(id -> byId[(int) (long) id]).toList();
+        return new CategoryTree(byId, roots);
+    }
+    
+    // 재귀 깊이는 트리 깊이 (카테고리는 2~3 단계)
+    private static void build(long id, long parentId, long rootId, int depth, Row[] rowById,
+                              List<List<Long>> childIds, Node[] byId, int[] clock) {
+        int enter = clock[0]++;
+        List<Long> children = childIds.get((int) id);
+        for (Long childId : children) {
+            build(childId, id, rootId, depth + 1, rowById, childIds, byId, clock);
+        }
+        Row row = rowById[(int) id];
+        byId[(int) id] = new Node(id, row.name(), parentId, rootId, row.layerOrder(), depth, row.icon(),
+                List.copyOf(children), enter, clock[0]);
+    }
+    
+    private static boolean contains(Object[] array, long id) {
+        return id >= 0 && id < array.length && array[(int) id] != null;
+    }
+    
+    public Node node(long id) {
+        return contains(byId, id) ? byId[(int) id] : null;
+    }
+    
+    public boolean contains(long id) {
+        return contains(byId, id);
+    }
+    
+    public List<Node> roots() {
+        return roots;
+    }
+    
+    public String name(long id) {
+        Node node = node(id);
+        return node == null ? null : node.name();
+    }
+    
+    // 부모 id (최상위거나 없으면 0)
+    public long parentId(long id) {
+        Node node = node(id);
+        return node == null ? 0L : node.parentId();
+    }
+    
+    // 최상위 카테고리 id (없으면 0)
+    public long rootId(long id) {
+        Node node = node(id);
+        return node == null ? 0L : node.rootId();
+    }
+    
+    public int layerOrder(long id) {
+        Node node = node(id);
+        return node == null ? 0 : node.layerOrder();
+    }
+    
+    public List<Long> children(long id) {
+        Node node = node(id);
+        return node == null ? List.of() : node.children();
+    }
+    
+    // ancestorId 가 id 자신이거나 조상이면 true
+    public boolean isAncestorOrSelf(long ancestorId, long id) {
+        Node ancestor = node(ancestorId);
+        Node node = node(id);
+        return ancestor != null && node != null
+                && ancestor.enter() <= node.enter() && node.exit() <= ancestor.exit();
+    }
+    
+    // 부모부터 최상위까지 (자신 제외)
+    public List<Long> ancestors(long id) {
+        List<Long> ancestors = new ArrayList<>();
+        for (long parent = parentId(id); parent != 0L; parent = parentId(parent)) {
+            ancestors.add(parent);
+        }
+        return ancestors;
+    }
+    
+    public int size() {
+        return (int) Arrays.stream(byId).filter(node -> node != null).count();
+    }
+    
+    /**
+     * cloth_categories 한 행
+     */
+    public record Row(long id, String name, Long parentId, int layerOrder, String icon) {}
+    
+    /**
+     * 트리 노드 (enter/exit 는 DFS 순번, 자손은 [enter, exit) 구간에 들어온다)
+     */
+    public record Node(long id, String name, long parentId, long rootId, int layerOrder, int depth,
+                       String icon, List<Long> children, int enter, int exit) {}
+}
@@ -0,0 +1,6 @@
+package kr.salm.closet.service.category;
+
+/**
+ * 카테고리 트리 스냅샷 교체 알림
+ */
+public record CategoryTreeReloadedEvent(CategoryTree tree) {}
@@ -0,0 +1,168 @@
+package kr.salm.closet.service.recommend;
+
+import jakarta.annotation.PostConstruct;
+import kr.salm.closet.domain.OutfitHistory;
+import kr.salm.closet.dto.WeatherResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 체감 온도 보정값 (outfit_history 피드백으로 학습)
+ * - 피드백 하나당 O(1) 갱신: offset += gain × steps (TOO_HOT=+2 … TOO_COLD=-2), ±max-offset 로 제한
+ *   추천은 이미 보정된 온도로 이뤄지므로 PERFECT 면 그대로, 덥다/춥다면 그 방향으로 조금씩 이동한다.
+ * - 보정 온도 = 실제 온도 + offset (더위를 타는 사용자는 더 덥게 보고 가벼운 옷을 추천)
+ * - 저장은 피드백을 남긴 사용자만 담는 user id → offset 맵
+ * - 시작 시 한 번만 outfit_history 전체를 id 순으로 커서 스트리밍, 이후 sync-interval 마다 새 행(id > 기준)만 읽어
+ *   누적한다 (히스토리는 INSERT 만, 피드백은 기록 시 정해짐) → 다른 노드에 기록된 피드백도 반영된다.
+ *   기준은 한 주기 전의 마지막 id (늦게 커밋된 작은 id 보완), 최근 반영한 id 는 기억해 두 번 더하지 않는다.
+ */
+@Slf4j
+@Component
+public class ComfortCalibration {
+    
+    private static final String HISTORY_SQL = "SELECT id, user_id, user_feedback FROM outfit_history " +
+            "WHERE user_feedback IS NOT NULL AND id > ? ORDER BY id";
+    
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final float gain;
+    private final float maxOffset;
+    
+    // 읽기는 잠금 없이, 갱신/아래 상태는 synchronized
+    private final Map<Long, Float> offsets = new ConcurrentHashMap<>();
+    private boolean loaded;
+    // 반영한 최대 id
+    private long lastAppliedId;
+    // 다음 동기화 조회 기준 (이보다 큰 id 중 반영한 것은 모두 recentIds 에 있음)
+    private long syncFrom;
+    private final Set<Long> recentIds = new HashSet<>();
+    
+    public ComfortCalibration(DataSource dataSource,
+                              @Value("${recommend.comfort.gain:0.5}") float gain,
+                              @Value("${recommend.comfort.max-offset:6}") float maxOffset,
+                              @Value("${recommend.comfort.fetch-size:1000}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.gain = gain;
+        this.maxOffset = maxOffset;
+    }
+    
+    // 웹 서버가 요청을 받기 전에 전체 계산 (record 와 겹치지 않으므로 읽은 id 를 기억하지 않음)
+    @PostConstruct
+    public void init() {
+        sync(false);
+    }
+    
+    @Scheduled(fixedDelayString = "${recommend.comfort.sync-interval-ms:60000}",
+            initialDelayString = "${recommend.comfort.sync-interval-ms:60000}")
+    public void scheduledSync() {
+        sync(true);
+    }
+    
+    /**
+     * syncFrom 뒤의 피드백을 읽어 반영 (아직 전체 적재 전이면 처음부터)
+     * 조회 중에는 잠그지 않고 행마다 잠가서 record 를 막지 않는다.
+     * 실패하면 읽은 데까지 반영하고 기준은 그대로, 다음 주기에 이어서 (이미 반영한 id 는 건너뜀)
+     */
+    private void sync(boolean trackIds) {
+        long from;
+        long appliedBefore;
+        synchronized (this) {
+            from = syncFrom;
+            appliedBefore = lastAppliedId;
+        }
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try {
+            streamingJdbcTemplate.query(HISTORY_SQL, rs -> {
+                OutfitHistory.Feedback feedback = OutfitHistory.Feedback.valueOf(rs.getString(3));
+                if (applyRow(rs.getLong(1), rs.getLong(2), feedback, trackIds)) {
+                    rows[0]++;
+                }
+            }, from);
+        } catch (Exception e) {
+            log.warn("Comfort offsets sync failed after {} rows: {}", rows[0], e.getMessage());
+            if (!trackIds) {
+                // 기억하지 않고 읽은 행은 다시 읽으면 두 번 더해지므로 비우고 다음 주기에 전체 재적재
+                synchronized (this) {
+                    offsets.clear();
+                    recentIds.clear();
+                    lastAppliedId = 0;
+                }
+            }
+            return;
+        }
+        
+        boolean initial;
+        synchronized (this) {
+            initial = !loaded;
+            // 다음 조회는 이번 주기 시작 시점의 마지막 id 부터, 그 이하로 기억한 id 는 정리
+            syncFrom = loaded ? appliedBefore : lastAppliedId;
+            recentIds.removeIf(id -> id <= syncFrom);
+            loaded = true;
+        }
+        if (initial) {
+            log.info("Comfort offsets loaded from {} feedback rows ({} users) in {}ms",
+                    rows[0], offsets.size(), (System.nanoTime() - start) / 1_000_000);
+        } else if (rows[0] > 0) {
+            log.debug("Comfort offsets synced: {} new feedback rows after id {}", rows[0], from);
+        }
+    }
+    
+    // 동기화로 읽은 행 반영 (record 가 먼저 반영했으면 건너뜀)
+    private synchronized boolean applyRow(long id, long userId, OutfitHistory.Feedback feedback, boolean trackIds) {
+        lastAppliedId = Math.max(lastAppliedId, id);
+        if (trackIds ? !recentIds.add(id) : recentIds.contains(id)) {
+            return false;
+        }
+        apply(offsets, userId, feedback);
+        return true;
+    }
+    
+    /**
+     * 새 피드백 반영 (커밋 후 호출)
+     */
+    public synchronized void record(long historyId, long userId, OutfitHistory.Feedback feedback) {
+        // 동기화가 이미 읽었으면 건너뜀, 아니면 다음 동기화가 건너뛰도록 기억
+        if (recentIds.add(historyId)) {
+            apply(offsets, userId, feedback);
+        }
+    }
+    
+    public float offset(long userId) {
+        return offsets.getOrDefault(userId, 0f);
+    }
+    
+    // 사용자 보정 온도
+    public int correct(long userId, int temperature) {
+        return Math.round(temperature + offset(userId));
+    }
+    
+    /**
+     * 보정 온도를 correctedTemperature 로 넣은 사본 (캐시된 인스턴스는 공유되므로 복사)
+     * 체감 온도(feelsLike)는 API 값 그대로 두고, getTemperatureLevel 은 보정 온도 기준이다.
+     */
+    public WeatherResponse personalize(long userId, WeatherResponse weather) {
+        if (!weather.isSuccess() || offset(userId) == 0f) {
+            return weather;
+        }
+        return weather.toBuilder().correctedTemperature(correct(userId, weather.getFeelsLike())).build();
+    }
+    
+    private void apply(Map<Long, Float> target, long userId, OutfitHistory.Feedback feedback) {
+        float delta = gain * feedback.getSteps();
+        target.merge(userId, clamp(delta), (current, ignored) -> clamp(current + delta));
+    }
+    
+    private float clamp(float offset) {
+        return Math.max(-maxOffset, Math.min(maxOffset, offset));
+    }
+}
@@ -0,0 +1,207 @@
+package kr.salm.closet.service.recommend;
+
+import kr.salm.closet.domain.Cloth;
+import kr.salm.closet.service.wardrobe.ClothItem;
+import kr.salm.closet.service.wardrobe.Wardrobe;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 날씨 기반 코디 추천 엔진
+ * - 현재 온도에 맞는 옷을 최상위 카테고리(상의/하의/아우터/신발/악세서리)별 슬롯으로 나누고 슬롯마다 하나씩 고른다.
+ * - 옷 점수 = 온도 적합도 + 날씨 태그 + 즐겨찾기 + 최근 착용 여부 (합산이라 코디 점수 = 옷 점수의 합)
+ * - 슬롯별 상위 beam-width 개 후보만 남기고, 남은 슬롯 최고점 합으로 상한을 잡아 top-K 에 못 드는 가지는 잘라낸다.
+ * - 시간 예산을 넘기면 그때까지 찾은 결과를 반환한다.
+ */
+@Component
+public class OutfitRecommender {
+    
+    // cloth_categories.layer_order (schema.sql)
+    private static final int OUTER_LAYER = 3;
+    private static final int ACCESSORY_LAYER = 4;
+    // 이 온도 이상이면 아우터 생략 가능
+    private static final int OUTER_OPTIONAL_TEMP = 17;
+    
+    private static final double TEMPERATURE_WEIGHT = 2.0;
+    private static final double WEATHER_TAG_WEIGHT = 1.0;
+    private static final double FAVORITE_WEIGHT = 0.5;
+    private static final double FRESHNESS_WEIGHT = 1.0;
+    private static final double WEAR_COUNT_WEIGHT = 0.2;
+    private static final int FRESHNESS_DAYS = 14;
+    
+    private final int beamWidth;
+    private final long timeBudgetNanos;
+    
+    public OutfitRecommender(@Value("${recommend.beam-width:20}") int beamWidth,
+                             @Value("${recommend.time-budget:50ms}") Duration timeBudget) {
+        this.beamWidth = beamWidth;
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+    
+    /**
+     * wardrobe 에서 temperature/weatherType 에 맞는 코디 상위 k 개
+     */
+    public RecommendationResult recommend(Wardrobe wardrobe, int temperature, String weatherType, int k) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        List<Slot> slots = buildSlots(wardrobe.fitting(temperature), temperature, Cloth.WeatherTag.ofWeatherType(weatherType));
+        if (slots.isEmpty() || k <= 0) {
+            return new RecommendationResult(List.of(), true);
+        }
+        
+        Search search = new Search(slots, k, deadline);
+        search.run(0, 0.0);
+        return new RecommendationResult(search.results(), !search.timedOut);
+    }
+    
+    private List<Slot> buildSlots(List<ClothItem> fitting, int temperature, Cloth.WeatherTag weatherTag) {
+        LocalDate today = LocalDate.now();
+        Map<Long, List<Scored>> byRoot = new LinkedHashMap<>();
+        Map<Long, Integer> layerOf = new LinkedHashMap<>();
+        for (ClothItem item : fitting) {
+            byRoot.computeIfAbsent(item.rootCategoryId(), id -> new ArrayList<>())
+                    .add(new Scored(item, score(item, temperature, weatherTag, today)));
+            layerOf.putIfAbsent(item.rootCategoryId(), layerOrder(item));
+        }
+        
+        List<Slot> slots = new ArrayList<>(byRoot.size());
+        byRoot.forEach((rootId, candidates) -> {
+            int layer = layerOf.get(rootId);
+            boolean optional = layer == ACCESSORY_LAYER
+                    || (layer == OUTER_LAYER && temperature >= OUTER_OPTIONAL_TEMP);
+            if (optional) {
+                candidates.add(new Scored(null, 0.0));  // 입지 않는 선택지
+            }
+            candidates.sort(Comparator.comparingDouble(Scored::score).reversed());
+            List<Scored> kept = List.copyOf(candidates.subList(0, Math.min(beamWidth, candidates.size())));
+            slots.add(new Slot(layer, kept));
+        });
+        slots.sort(Comparator.comparingInt(Slot::layer));
+        return slots;
+    }
+    
+    static double score(ClothItem item, int temperature, Cloth.WeatherTag weatherTag, LocalDate today) {
+        double score = TEMPERATURE_WEIGHT * temperatureFit(item, temperature);
+        if (item.hasWeatherTag(weatherTag)) {
+            score += WEATHER_TAG_WEIGHT;
+        }
+        if (Boolean.TRUE.equals(item.favorite())) {
+            score += FAVORITE_WEIGHT;
+        }
+        score += FRESHNESS_WEIGHT * freshness(item.lastWornAt(), today);
+        int wearCount = item.wearCount() == null ? 0 : item.wearCount();
+        score -= WEAR_COUNT_WEIGHT * wearCount / (wearCount + 10.0);
+        return score;
+    }
+    
+    // 적정 온도 범위 중앙에 가까울수록 1, 경계에서 0 (범위 한쪽이 비어 있으면 0.5)
+    private static double temperatureFit(ClothItem item, int temperature) {
+        if (item.tempMin() == null || item.tempMax() == null) {
+            return 0.5;
+        }
+        double mid = (item.tempMin() + item.tempMax()) / 2.0;
+        double half = Math.max(1.0, (item.tempMax() - item.tempMin()) / 2.0);
+        return Math.max(0.0, 1.0 - Math.abs(temperature - mid) / half);
+    }
+    
+    // 최근에 입은 옷일수록 0, 안 입은 지 FRESHNESS_DAYS 이상이면 1
+    private static double freshness(LocalDate lastWornAt, LocalDate today) {
+        if (lastWornAt == null) {
+            return 1.0;
+        }
+        long days = ChronoUnit.DAYS.between(lastWornAt, today);
+        return Math.max(0, Math.min(days, FRESHNESS_DAYS)) / (double) FRESHNESS_DAYS;
+    }
+    
+    private static int layerOrder(ClothItem item) {
+        return item.layerOrder() == null ? 0 : item.layerOrder();
+    }
+    
+    private record Scored(ClothItem item, double score) {}
+    
+    private record Slot(int layer, List<Scored> candidates) {}
+    
+    /**
+     * 분기 한정 탐색 (branch and bound)
+     * 슬롯 후보가 점수 내림차순이므로 상한이 top-K 최저점 이하가 되는 순간 나머지 후보는 볼 필요가 없다.
+     */
+    private static final class Search {
+        
+        private static final int DEADLINE_CHECK_INTERVAL = 1024;
+        
+        private final List<Slot> slots;
+        private final double[] bestRemaining;
+        private final ClothItem[] chosen;
+        private final int k;
+        private final long deadline;
+        private final PriorityQueue<RecommendedOutfit> top =
+                new PriorityQueue<>(Comparator.comparingDouble(RecommendedOutfit::score));
+        private long visited;
+        private boolean timedOut;
+        
+        private Search(List<Slot> slots, int k, long deadline) {
+            this.slots = slots;
+            this.chosen = new ClothItem[slots.size()];
+            this.k = k;
+            this.deadline = deadline;
+            // bestRemaining[i] = i 번째 이후 슬롯 최고점의 합
+            this.bestRemaining = new double[slots.size() + 1];
+            for (int i = slots.size() - 1; i >= 0; i--) {
+                bestRemaining[i] = bestRemaining[i + 1] + slots.get(i).candidates().get(0).score();
+            }
+        }
+        
+        private void run(int slot, double score) {
+            if (timedOut || (++visited % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline)) {
+                timedOut = true;
+                return;
+            }
+            if (slot == slots.size()) {
+                offer(score);
+                return;
+            }
+            for (Scored candidate : slots.get(slot).candidates()) {
+                if (!canImprove(score + candidate.score() + bestRemaining[slot + 1])) {
+                    break;
+                }
+                chosen[slot] = candidate.item();
+                run(slot + 1, score + candidate.score());
+            }
+        }
+        
+        private boolean canImprove(double bound) {
+            return top.size() < k || bound > top.peek().score();
+        }
+        
+        private void offer(double score) {
+            if (!canImprove(score)) {
+                return;
+            }
+            List<ClothItem> items = new ArrayList<>(chosen.length);
+            for (ClothItem item : chosen) {
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            top.offer(new RecommendedOutfit(List.copyOf(items), score));
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+        
+        private List<RecommendedOutfit> results() {
+            List<RecommendedOutfit> results = new ArrayList<>(top);
+            results.sort(Comparator.comparingDouble(RecommendedOutfit::score).reversed());
+            return results;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package kr.salm.closet.service.recommend;
+
+import java.util.List;
+
+/**
+ * 추천 결과 (점수 내림차순)
+ * complete 가 false 면 시간 예산 안에 탐색을 끝내지 못해 그때까지 찾은 최선의 결과다.
+ */
+public record RecommendationResult(List<RecommendedOutfit> outfits, boolean complete) {}
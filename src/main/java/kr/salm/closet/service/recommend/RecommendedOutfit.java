@@ -0,0 +1,10 @@
+package kr.salm.closet.service.recommend;
+
+import kr.salm.closet.service.wardrobe.ClothItem;
+
+import java.util.List;
+
+/**
+ * 추천 코디 하나 (items 는 레이어 순서)
+ */
+public record RecommendedOutfit(List<ClothItem> items, double score) {}
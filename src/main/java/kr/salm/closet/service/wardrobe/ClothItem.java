@@ -0,0 +1,56 @@
+package kr.salm.closet.service.wardrobe;
+
+import kr.salm.closet.domain.Cloth;
+import kr.salm.closet.service.category.CategoryTree;
+
+import java.time.LocalDate;
+
+/**
+ * 옷장 인덱스용 옷 요약 (추천에 필요한 컬럼만, 엔티티 대신 사용)
+ * rootCategoryId 는 최상위 카테고리 (예: 패딩 → 아우터), 최상위면 categoryId 와 같다.
+ * 쿼리는 categoryId 만 읽고, 최상위/레이어 순서는 카테고리 트리에서 채운다 (withCategory).
+ */
+public record ClothItem(
+        Long userId,
+        Long id,
+        Long categoryId,
+        Long rootCategoryId,
+        Integer layerOrder,
+        String name,
+        String imagePath,
+        Integer tempMin,
+        Integer tempMax,
+        Integer weatherTagMask,
+        Boolean favorite,
+        Integer wearCount,
+        LocalDate lastWornAt
+) {
+    
+    // 조회 쿼리용 (카테고리 정보는 withCategory 로 채움)
+    public ClothItem(Long userId, Long id, Long categoryId, String name, String imagePath,
+                     Integer tempMin, Integer tempMax, Integer weatherTagMask, Boolean favorite,
+                     Integer wearCount, LocalDate lastWornAt) {
+        this(userId, id, categoryId, null, null, name, imagePath, tempMin, tempMax, weatherTagMask,
+                favorite, wearCount, lastWornAt);
+    }
+    
+    // 트리에 없는 카테고리는 자기 자신을 최상위로 취급
+    public ClothItem withCategory(CategoryTree tree) {
+        if (categoryId == null || !tree.contains(categoryId)) {
+            return new ClothItem(userId, id, categoryId, categoryId, 0, name, imagePath, tempMin, tempMax,
+                    weatherTagMask, favorite, wearCount, lastWornAt);
+        }
+        return new ClothItem(userId, id, categoryId, tree.rootId(categoryId), tree.layerOrder(categoryId),
+                name, imagePath, tempMin, tempMax, weatherTagMask, favorite, wearCount, lastWornAt);
+    }
+    
+    public boolean hasWeatherTag(Cloth.WeatherTag tag) {
+        return tag != null && weatherTagMask != null && (weatherTagMask & tag.bit()) != 0;
+    }
+    
+    // 온도 범위가 비어 있으면 제한 없음 (ClothRepository 조건과 동일)
+    public boolean fits(int temperature) {
+        return (tempMin == null || tempMin <= temperature)
+                && (tempMax == null || tempMax >= temperature);
+    }
+}
@@ -0,0 +1,90 @@
+package kr.salm.closet.service.wardrobe;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 사용자의 옷장 스냅샷 (불변)
+ * - 온도 1도 단위 bitset: byDegree[t] 는 t°C 에 맞는 옷의 인덱스 집합
+ * - 카테고리별 bitset: 세부 카테고리와 최상위 카테고리 모두로 조회 가능
+ * 조회는 bitset AND 한 번이며 DB 를 사용하지 않는다.
+ */
+public final class Wardrobe {
+    
+    // 인덱스 온도 범위 (범위 밖 온도는 전체 스캔)
+    static final int MIN_TEMP = -30;
+    static final int MAX_TEMP = 45;
+    
+    private final List<ClothItem> items;
+    private final BitSet[] byDegree;
+    private final Map<Long, BitSet> byCategory;
+    
+    private Wardrobe(List<ClothItem> items, BitSet[] byDegree, Map<Long, BitSet> byCategory) {
+        this.items = items;
+        this.byDegree = byDegree;
+        this.byCategory = byCategory;
+    }
+    
+    public static Wardrobe of(List<ClothItem> clothes) {
+        List<ClothItem> items = List.copyOf(clothes);
+        BitSet[] byDegree = new BitSet[MAX_TEMP - MIN_TEMP + 1];
+        for (int i = 0; i < byDegree.length; i++) {
+            byDegree[i] = new BitSet(items.size());
+        }
+        Map<Long, BitSet> byCategory = new HashMap<>();
+        
+        for (int i = 0; i < items.size(); i++) {
+            ClothItem item = items.get(i);
+            int from = item.tempMin() == null ? MIN_TEMP : Math.max(MIN_TEMP, item.tempMin());
+            int to = item.tempMax() == null ? MAX_TEMP : Math.min(MAX_TEMP, item.tempMax());
+            for (int t = from; t <= to; t++) {
+                byDegree[t - MIN_TEMP].set(i);
+            }
+            byCategory.computeIfAbsent(item.categoryId(), id -> new BitSet()).set(i);
+            if (item.rootCategoryId() != null) {
+                byCategory.computeIfAbsent(item.rootCategoryId(), id -> new BitSet()).set(i);
+            }
+        }
+        return new Wardrobe(items, byDegree, byCategory);
+    }
+    
+    public List<ClothItem> items() {
+        return items;
+    }
+    
+    public int size() {
+        return items.size();
+    }
+    
+    /**
+     * temperature 에 맞는 옷
+     */
+    public List<ClothItem> fitting(int temperature) {
+        if (temperature < MIN_TEMP || temperature > MAX_TEMP) {
+            return items.stream().filter(item -> item.fits(temperature)).toList();
+        }
+        return select(byDegree[temperature - MIN_TEMP]);
+    }
+    
+    /**
+     * temperature 에 맞는 옷 중 categoryId(세부 또는 최상위 카테고리)에 속한 것
+     */
+    public List<ClothItem> fitting(int temperature, Long categoryId) {
+        BitSet category = byCategory.get(categoryId);
+        if (category == null) {
+            return List.of();
+        }
+        if (temperature < MIN_TEMP || temperature > MAX_TEMP) {
+            return select(category).stream().filter(item -> item.fits(temperature)).toList();
+        }
+        BitSet matched = (BitSet) byDegree[temperature - MIN_TEMP].clone();
+        matched.and(category);
+        return select(matched);
+    }
+    
+    private List<ClothItem> select(BitSet bits) {
+        return bits.stream().mapToObj(items::get).toList();
+    }
+}
@@ -0,0 +1,108 @@
+package kr.salm.closet.service.wardrobe;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.salm.closet.repository.ClothRepository;
+import kr.salm.closet.service.category.CategoryCatalog;
+import kr.salm.closet.service.category.CategoryTree;
+import kr.salm.closet.service.category.CategoryTreeReloadedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 옷장 인덱스 (인메모리)
+ * - 최근 조회한 사용자의 옷장만 보관 (크기 제한 + 미사용 시 만료)
+ * - 첫 조회 때 활성 옷을 한 번 읽어 Wardrobe 스냅샷을 만들고, 이후 온도/카테고리 조회는 DB 없이 처리
+ * - 옷을 쓰는 서비스(WardrobeImporter, WearRecorder)가 invalidate 를 호출해 커밋 후 해당 사용자 스냅샷을 버린다
+ * - 최상위 카테고리/레이어 순서는 CategoryCatalog 트리에서 채우고, 트리가 바뀌면 전체를 버린다
+ */
+@Slf4j
+@Component
+public class WardrobeIndex {
+    
+    private final ClothRepository clothRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final Cache<Long, Wardrobe> cache;
+    
+    public WardrobeIndex(ClothRepository clothRepository,
+                         CategoryCatalog categoryCatalog,
+                         @Value("${wardrobe.index.maximum-size:10000}") long maximumSize,
+                         @Value("${wardrobe.index.expire-after-access:30m}") Duration expireAfterAccess,
+                         MeterRegistry meterRegistry) {
+        this.clothRepository = clothRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "wardrobe", "cache.manager", "wardrobeIndex");
+    }
+    
+    public Wardrobe get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+    
+    /**
+     * 여러 사용자 옷장 스냅샷 (일괄 작업용)
+     * 인덱스에 있으면 그대로 쓰고, 없는 사용자는 한 번의 쿼리로 만들되 인덱스에는 넣지 않는다.
+     * (야간 일괄 작업이 실제 사용 중인 사용자의 인덱스를 밀어내지 않도록)
+     */
+    public Map<Long, Wardrobe> snapshots(Collection<Long> userIds) {
+        Map<Long, Wardrobe> snapshots = new HashMap<>(cache.getAllPresent(userIds));
+        List<Long> missing = userIds.stream().filter(id -> !snapshots.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            CategoryTree tree = categoryCatalog.tree();
+            Map<Long, List<ClothItem>> byUser = clothRepository.findItemsByUserIdIn(missing).stream()
+                    .map(item -> item.withCategory(tree))
+                    .collect(Collectors.groupingBy(ClothItem::userId));
+            missing.forEach(id -> snapshots.put(id, Wardrobe.of(byUser.getOrDefault(id, List.of()))));
+        }
+        return snapshots;
+    }
+    
+    /**
+     * 사용자 옷장 스냅샷 무효화
+     * 트랜잭션 안이면 커밋 후 무효화 (커밋 전 데이터로 다시 적재되는 것 방지)
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        } else {
+            cache.invalidate(userId);
+        }
+    }
+    
+    // 카테고리 구조가 바뀌면 최상위/레이어 순서가 달라지므로 전체 무효화
+    @EventListener
+    public void onCategoryTreeReloaded(CategoryTreeReloadedEvent event) {
+        cache.invalidateAll();
+    }
+    
+    private Wardrobe load(Long userId) {
+        CategoryTree tree = categoryCatalog.tree();
+        Wardrobe wardrobe = Wardrobe.of(clothRepository.findItemsByUserId(userId).stream()
+                .map(item -> item.withCategory(tree))
+                .toList());
+        log.debug("Wardrobe index loaded: userId={}, items={}", userId, wardrobe.size());
+        return wardrobe;
+    }
+}
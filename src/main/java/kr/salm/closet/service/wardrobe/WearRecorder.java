@@ -0,0 +1,209 @@
+package kr.salm.closet.service.wardrobe;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 착용 기록 쓰기 합치기
+ * - 착용 이벤트는 메모리에 쌓고 옷별로 합산 (같은 옷을 여러 번 입어도 UPDATE 한 번)
+ * - flush-interval 마다 wear_count 증가 UPDATE 배치 + outfit_history INSERT 배치를 한 트랜잭션으로 기록
+ * - 쌓인 이벤트가 max-pending 에 닿으면 기록을 호출한 스레드에서 바로 flush
+ *   → 프로세스가 죽어도 잃는 이벤트는 max-pending 개 이하 (1 이면 매번 바로 기록)
+ * - 실패한 배치는 되돌려 재시도하되 연속 max-retries 번 실패하면 버리고 로그만 남긴다 (영구 실패 배치가 계속 쌓이지 않도록)
+ * 엔티티를 읽지 않고 JDBC 로만 갱신하므로, 기록 후 해당 사용자 옷장 인덱스를 무효화한다.
+ */
+@Slf4j
+@Component
+public class WearRecorder {
+    
+    // 엔티티를 거치지 않으므로 @UpdateTimestamp 대신 updated_at 은 DB ON UPDATE 로 갱신
+    private static final String UPDATE_CLOTH_SQL = """
+            UPDATE clothes
+            SET wear_count = COALESCE(wear_count, 0) + ?,
+                last_worn_at = GREATEST(COALESCE(last_worn_at, ?), ?)
+            WHERE id = ? AND user_id = ?
+            """;
+    // 기록 전에 코디가 지워졌으면 (DailyOutfitJob 재생성 등) 그 행만 건너뜀 → FK 위반으로 배치 전체가 실패하지 않게
+    private static final String INSERT_HISTORY_SQL = """
+            INSERT INTO outfit_history (user_id, outfit_id, worn_date)
+            SELECT ?, ?, ? FROM DUAL
+            WHERE ? IS NULL OR EXISTS (SELECT 1 FROM outfits WHERE id = ?)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WardrobeIndex wardrobeIndex;
+    private final int maxPending;
+    private final int maxRetries;
+    private final MeterRegistry meterRegistry;
+    
+    // lock 으로 보호 (flush 는 통째로 교체해서 가져감)
+    private final Object lock = new Object();
+    private Map<Long, PendingWear> pendingClothes = new HashMap<>();
+    private List<WearEvent> pendingHistory = new ArrayList<>();
+    
+    // 동시에 flush 하나만
+    private final Object flushLock = new Object();
+    private int failedFlushes;  // flushLock 으로 보호
+    private final Counter events;
+    private final Counter updates;
+    private final Counter dropped;
+    
+    public WearRecorder(JdbcTemplate jdbcTemplate,
+                        TransactionTemplate transactionTemplate,
+                        WardrobeIndex wardrobeIndex,
+                        @Value("${wardrobe.wear.max-pending:1000}") int maxPending,
+                        @Value("${wardrobe.wear.max-retries:3}") int maxRetries,
+                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.wardrobeIndex = wardrobeIndex;
+        this.maxPending = Math.max(1, maxPending);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.meterRegistry = meterRegistry;
+        
+        this.events = Counter.builder("wardrobe.wear.events")
+                .description("기록 요청된 착용 이벤트 수")
+                .register(meterRegistry);
+        this.updates = Counter.builder("wardrobe.wear.updates")
+                .description("착용 이벤트를 합쳐 실행한 옷 UPDATE 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("wardrobe.wear.dropped")
+                .description("재시도 한도를 넘겨 버린 착용 이벤트 수")
+                .register(meterRegistry);
+    }
+    
+    // 생성이 끝난 뒤 등록 (생성자에서 this 를 넘기지 않도록)
+    @PostConstruct
+    public void registerGauge() {
+        Gauge.builder("wardrobe.wear.pending", this, WearRecorder::pendingCount)
+                .description("아직 기록되지 않은 착용 이벤트 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 착용 이벤트 추가 (outfitId 는 코디 없이 옷만 입은 경우 null)
+     * clothIds 는 userId 소유여야 하며, 아니면 UPDATE 조건에서 걸러진다.
+     */
+    public void record(Long userId, Long outfitId, Collection<Long> clothIds, LocalDate wornDate) {
+        boolean full;
+        synchronized (lock) {
+            for (Long clothId : clothIds) {
+                pendingClothes.merge(clothId, new PendingWear(userId, 1, wornDate), PendingWear::plus);
+            }
+            pendingHistory.add(new WearEvent(userId, outfitId, wornDate));
+            full = pendingHistory.size() >= maxPending;
+        }
+        events.increment();
+        if (full) {
+            flush();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${wardrobe.wear.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    /**
+     * 쌓인 이벤트를 한 트랜잭션으로 기록 (실패하면 버퍼에 되돌려 다음 flush 에서 재시도, 연속 실패가 한도를 넘으면 버림)
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Long, PendingWear> clothes;
+            List<WearEvent> history;
+            synchronized (lock) {
+                if (pendingHistory.isEmpty()) {
+                    return;
+                }
+                clothes = pendingClothes;
+                history = pendingHistory;
+                pendingClothes = new HashMap<>();
+                pendingHistory = new ArrayList<>();
+            }
+            
+            List<Object[]> clothRows = new ArrayList<>(clothes.size());
+            Set<Long> userIds = new HashSet<>();
+            clothes.forEach((clothId, wear) -> {
+                Date date = Date.valueOf(wear.lastWornAt());
+                clothRows.add(new Object[] {wear.count(), date, date, clothId, wear.userId()});
+                userIds.add(wear.userId());
+            });
+            List<Object[]> historyRows = history.stream()
+                    .map(event -> new Object[] {event.userId(), event.outfitId(), Date.valueOf(event.wornDate()),
+                            event.outfitId(), event.outfitId()})
+                    .toList();
+            
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(UPDATE_CLOTH_SQL, clothRows);
+                    jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+                });
+            } catch (Exception e) {
+                // 되돌린 이벤트는 새 이벤트와 합쳐지므로 한도를 넘기면 이번에 가져온 이벤트를 모두 버린다
+                if (++failedFlushes > maxRetries) {
+                    failedFlushes = 0;
+                    dropped.increment(history.size());
+                    log.error("Wear flush failed {} times in a row, dropping {} events: {}",
+                            maxRetries + 1, history.size(), e.getMessage());
+                    return;
+                }
+                log.error("Wear flush failed, {} events re-queued: {}", history.size(), e.getMessage());
+                requeue(clothes, history);
+                return;
+            }
+            failedFlushes = 0;
+            userIds.forEach(wardrobeIndex::invalidate);
+            updates.increment(clothRows.size());
+            log.debug("Wear flushed: events={}, clothes={}", history.size(), clothRows.size());
+        }
+    }
+    
+    private void requeue(Map<Long, PendingWear> clothes, List<WearEvent> history) {
+        synchronized (lock) {
+            clothes.forEach((clothId, wear) -> pendingClothes.merge(clothId, wear, PendingWear::plus));
+            pendingHistory.addAll(0, history);
+        }
+    }
+    
+    private double pendingCount() {
+        synchronized (lock) {
+            return pendingHistory.size();
+        }
+    }
+    
+    // 옷별 합산 (횟수 + 가장 늦은 착용일)
+    private record PendingWear(Long userId, int count, LocalDate lastWornAt) {
+        
+        PendingWear plus(PendingWear other) {
+            LocalDate latest = lastWornAt.isAfter(other.lastWornAt) ? lastWornAt : other.lastWornAt;
+            return new PendingWear(userId, count + other.count, latest);
+        }
+    }
+    
+    private record WearEvent(Long userId, Long outfitId, LocalDate wornDate) {}
+}
@@ -0,0 +1,57 @@
+package kr.salm.closet.service.weather;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 응답 시간 백분위수 기반 타임아웃
+ * timeout = clamp(p(percentile) × multiplier, min, max)
+ * 샘플이 충분히 모이기 전에는 max 를 사용한다.
+ */
+public class AdaptiveTimeout {
+    
+    private static final int RECOMPUTE_EVERY = 20;
+    
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private final double multiplier;
+    private final long minNanos;
+    private final long maxNanos;
+    private volatile long currentNanos;
+    
+    public AdaptiveTimeout(int window, double percentile, double multiplier, Duration min, Duration max) {
+        this.samples = new AtomicLongArray(window);
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.minNanos = min.toNanos();
+        this.maxNanos = max.toNanos();
+        this.currentNanos = maxNanos;
+    }
+    
+    public Duration current() {
+        return Duration.ofNanos(currentNanos);
+    }
+    
+    // 호출 소요 시간 기록 (타임아웃된 호출은 타임아웃 값으로 기록)
+    public void record(long elapsedNanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % samples.length()), elapsedNanos);
+        if ((n + 1) % RECOMPUTE_EVERY == 0) {
+            recompute((int) Math.min(n + 1, samples.length()));
+        }
+    }
+    
+    private void recompute(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        long p = sorted[(int) Math.min(size - 1, Math.ceil(percentile * size) - 1)];
+        long timeout = (long) (p * multiplier);
+        currentNanos = Math.max(minNanos, Math.min(maxNanos, timeout));
+    }
+}
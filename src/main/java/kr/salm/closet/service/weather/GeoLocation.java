@@ -0,0 +1,10 @@
+package kr.salm.closet.service.weather;
+
+/**
+ * 지오코딩 결과 (도시명 → 좌표)
+ */
+public record GeoLocation(
+        String name,
+        double latitude,
+        double longitude
+) {}
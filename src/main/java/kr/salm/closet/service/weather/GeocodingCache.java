@@ -0,0 +1,120 @@
+package kr.salm.closet.service.weather;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 도시명 → 좌표 캐시 (cache-aside)
+ * - 번들된 국내 도시 목록(gazetteer)을 먼저 조회, 없으면 Open-Meteo Geocoding 결과를 장기 보관
+ * - 키는 정규화된 도시명 (유니코드 NFKC, 대소문자/공백 무시)
+ * 좌표를 얻은 뒤 날씨는 좌표 격자 캐시(WeatherCache)를 공유한다.
+ */
+@Slf4j
+@Component
+public class GeocodingCache {
+    
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    private final OpenMeteoClient openMeteoClient;
+    private final Map<String, GeoLocation> gazetteer;
+    private final Cache<String, GeoLocation> cache;
+    private final Counter gazetteerHits;
+    
+    public GeocodingCache(OpenMeteoClient openMeteoClient,
+                          @Value("${weather.geocoding.gazetteer:gazetteer/kr-cities.csv}") String gazetteerPath,
+                          @Value("${weather.geocoding.ttl:30d}") Duration ttl,
+                          @Value("${weather.geocoding.maximum-size:10000}") long maximumSize,
+                          MeterRegistry meterRegistry) {
+        this.openMeteoClient = openMeteoClient;
+        this.gazetteer = loadGazetteer(gazetteerPath);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "geocoding", "cache.manager", "geocodingCache");
+        
+        this.gazetteerHits = Counter.builder("weather.geocoding.gazetteer.hits")
+                .description("번들 도시 목록에서 바로 찾은 도시명 조회 수")
+                .register(meterRegistry);
+        log.info("Loaded {} gazetteer names", gazetteer.size());
+    }
+    
+    /**
+     * 도시명 → 좌표 (찾지 못하면 empty)
+     */
+    public Mono<GeoLocation> geocode(String cityName) {
+        String key = normalize(cityName);
+        if (key.isEmpty()) {
+            return Mono.empty();
+        }
+        
+        GeoLocation known = gazetteer.get(key);
+        if (known != null) {
+            gazetteerHits.increment();
+            return Mono.just(known);
+        }
+        
+        GeoLocation cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return openMeteoClient.geocode(cityName.strip())
+                .doOnNext(location -> cache.put(key, location));
+    }
+    
+    // "  Seoul " / "SEOUL" / "서울 특별시" → "seoul" / "seoul" / "서울특별시"
+    static String normalize(String cityName) {
+        if (cityName == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(cityName, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(folded).replaceAll("");
+    }
+    
+    private static Map<String, GeoLocation> loadGazetteer(String path) {
+        Map<String, GeoLocation> names = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(path);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cols = line.split(",");
+                GeoLocation location = new GeoLocation(cols[0].strip(),
+                        Double.parseDouble(cols[1].strip()), Double.parseDouble(cols[2].strip()));
+                names.put(normalize(location.name()), location);
+                if (cols.length > 3) {
+                    for (String alias : cols[3].split("\\|")) {
+                        names.put(normalize(alias), location);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load gazetteer: " + path, e);
+        }
+        return Map.copyOf(names);
+    }
+}
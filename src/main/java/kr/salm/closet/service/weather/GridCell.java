@@ -0,0 +1,29 @@
+package kr.salm.closet.service.weather;
+
+/**
+ * 격자 단위로 정규화된 좌표 (날씨 캐시 키)
+ * GPS 오차로 좌표가 조금씩 달라져도 같은 격자면 같은 캐시 엔트리를 공유한다.
+ */
+public record GridCell(double latitude, double longitude) {
+    
+    public static GridCell snap(double lat, double lon, double gridSize) {
+        return new GridCell(round(lat, gridSize), round(lon, gridSize));
+    }
+    
+    private static double round(double value, double gridSize) {
+        double snapped = Math.round(value / gridSize) * gridSize;
+        // 부동소수 오차 제거 (0.05 * 751 = 37.550000000000004 등), -0.0 → 0.0
+        return Math.round(snapped * 10_000) / 10_000.0 + 0.0;
+    }
+    
+    // "lat_lon" 형식 키 (weather_cache.location_key)
+    public String key() {
+        return latitude + "_" + longitude;
+    }
+    
+    public static GridCell fromKey(String key) {
+        int separator = key.indexOf('_');
+        return new GridCell(Double.parseDouble(key.substring(0, separator)),
+                Double.parseDouble(key.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,171 @@
+package kr.salm.closet.service.weather;
+
+import kr.salm.closet.dto.WeatherResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Open-Meteo API 클라이언트 (무료, 키 불필요)
+ * 모든 호출은 논블로킹 Mono 로 반환하며 OpenMeteoResilience 로 보호된다.
+ * base-url / geocoding-url 을 바꾸면 로컬 스텁 서버로도 실행할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenMeteoClient {
+    
+    private final WebClient openMeteoWebClient;
+    private final OpenMeteoResilience resilience;
+    
+    @Value("${weather.api.base-url}")
+    private String baseUrl;
+    
+    @Value("${weather.api.geocoding-url}")
+    private String geocodingUrl;
+    
+    @Value("${weather.api.batch-size:50}")
+    private int batchSize;
+    
+    // 동시에 보낼 조각 수 (bulkhead max-concurrent-calls 보다 작게, 넘는 조각은 대기 없이 거부된다)
+    @Value("${weather.api.batch-concurrency:4}")
+    private int batchConcurrency;
+    
+    /**
+     * 좌표 기반 현재 날씨 조회
+     * 실패 시 에러 WeatherResponse 를 반환한다.
+     */
+    public Mono<WeatherResponse> fetchCurrentWeather(double lat, double lon) {
+        log.info("Fetching weather for lat={}, lon={}", lat, lon);
+        
+        return openMeteoWebClient.get()
+                .uri(baseUrl + "/forecast?latitude={lat}&longitude={lon}&current_weather=true&timezone=Asia/Seoul",
+                        lat, lon)
+                .retrieve()
+                .bodyToMono(OpenMeteoResponse.class)
+                .transform(resilience::forecast)
+                .map(this::convertToWeatherResponse)
+                .onErrorResume(e -> {
+                    log.error("Weather API error: {}", e.getMessage());
+                    return Mono.just(WeatherResponse.error("날씨 정보를 가져올 수 없습니다."));
+                });
+    }
+    
+    /**
+     * 여러 격자의 현재 날씨를 한 번에 조회 (latitude/longitude 콤마 구분 다중 좌표 요청)
+     * 결과는 cells 와 같은 순서, batch-size 단위로 나눠 batch-concurrency 개씩 동시에 요청한다.
+     */
+    public Mono<List<WeatherResponse>> fetchCurrentWeather(List<GridCell> cells) {
+        List<List<GridCell>> chunks = new ArrayList<>();
+        for (int i = 0; i < cells.size(); i += batchSize) {
+            chunks.add(cells.subList(i, Math.min(cells.size(), i + batchSize)));
+        }
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(this::fetchChunk, batchConcurrency)
+                .flatMapIterable(responses -> responses)
+                .collectList();
+    }
+    
+    private Mono<List<WeatherResponse>> fetchChunk(List<GridCell> cells) {
+        // 좌표가 하나면 배열이 아닌 객체로 응답하므로 단일 조회로 (batch-size 로 나눈 마지막 조각 포함)
+        if (cells.size() == 1) {
+            GridCell cell = cells.get(0);
+            return fetchCurrentWeather(cell.latitude(), cell.longitude()).map(List::of);
+        }
+        
+        String latitudes = cells.stream()
+                .map(cell -> String.valueOf(cell.latitude()))
+                .collect(Collectors.joining(","));
+        String longitudes = cells.stream()
+                .map(cell -> String.valueOf(cell.longitude()))
+                .collect(Collectors.joining(","));
+        log.info("Fetching weather for {} locations", cells.size());
+        
+        return openMeteoWebClient.get()
+                .uri(baseUrl + "/forecast?latitude={lat}&longitude={lon}&current_weather=true&timezone=Asia/Seoul",
+                        latitudes, longitudes)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<OpenMeteoResponse>>() {})
+                .transform(resilience::forecast)
+                .map(apis -> {
+                    List<WeatherResponse> responses = new ArrayList<>(cells.size());
+                    for (int i = 0; i < cells.size(); i++) {
+                        responses.add(i < apis.size()
+                                ? convertToWeatherResponse(apis.get(i))
+                                : WeatherResponse.error("Invalid API response"));
+                    }
+                    return responses;
+                })
+                .onErrorResume(e -> {
+                    log.error("Weather API error: {}", e.getMessage());
+                    return Mono.just(Collections.nCopies(cells.size(),
+                            WeatherResponse.error("날씨 정보를 가져올 수 없습니다.")));
+                });
+    }
+    
+    /**
+     * 도시명 → 좌표 변환 (Open-Meteo Geocoding)
+     * 결과가 없으면 empty
+     */
+    public Mono<GeoLocation> geocode(String cityName) {
+        log.info("Geocoding city={}", cityName);
+        
+        return openMeteoWebClient.get()
+                .uri(geocodingUrl + "/search?name={name}&count=1&language=ko", cityName)
+                .retrieve()
+                .bodyToMono(GeocodingResponse.class)
+                .transform(resilience::geocoding)
+                .flatMap(geo -> geo.results == null || geo.results.isEmpty()
+                        ? Mono.empty()
+                        : Mono.just(geo.results.get(0)));
+    }
+    
+    private WeatherResponse convertToWeatherResponse(OpenMeteoResponse api) {
+        if (api == null || api.current_weather == null) {
+            return WeatherResponse.error("Invalid API response");
+        }
+        
+        CurrentWeather cw = api.current_weather;
+        WeatherCondition condition = WeatherCodeTable.of(cw.weathercode, cw.is_day == 1);
+        
+        return WeatherResponse.builder()
+                .success(true)
+                .temperature((int) Math.round(cw.temperature))
+                .feelsLike((int) Math.round(cw.temperature))
+                .humidity(0)
+                .windSpeed(cw.windspeed)
+                .weatherMain(condition.main())
+                .weatherType(condition.type())
+                .description(condition.description())
+                .icon(condition.icon())
+                .cityName("현재 위치")
+                .build();
+    }
+    
+    // Open-Meteo API 응답 DTO
+    private record OpenMeteoResponse(
+            CurrentWeather current_weather
+    ) {}
+    
+    private record CurrentWeather(
+            double temperature,
+            double windspeed,
+            int weathercode,
+            int is_day
+    ) {}
+    
+    // Geocoding API 응답 DTO
+    private record GeocodingResponse(
+            List<GeoLocation> results
+    ) {}
+}
@@ -0,0 +1,103 @@
+package kr.salm.closet.service.weather;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Open-Meteo 호출 보호
+ * - bulkhead: 동시 외부 호출 수 제한 (초과 시 대기 없이 실패)
+ * - circuit breaker: 실패율/지연 호출 비율이 높으면 일정 시간 호출 차단
+ * - 예보 API 타임아웃은 최근 응답 시간 백분위수로 조정 (AdaptiveTimeout)
+ * 실패는 호출자(OpenMeteoClient)에서 에러 응답으로 바뀌고, 캐시는 마지막 값을 제공한다.
+ */
+@Slf4j
+@Component
+public class OpenMeteoResilience {
+    
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker forecastBreaker;
+    private final CircuitBreaker geocodingBreaker;
+    private final AdaptiveTimeout forecastTimeout;
+    private final Duration geocodingTimeout;
+    
+    public OpenMeteoResilience(
+            @Value("${weather.api.resilience.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${weather.api.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${weather.api.resilience.slow-call-threshold:3s}") Duration slowCallThreshold,
+            @Value("${weather.api.resilience.open-duration:30s}") Duration openDuration,
+            @Value("${weather.api.resilience.timeout-window:200}") int timeoutWindow,
+            @Value("${weather.api.resilience.timeout-percentile:0.99}") double timeoutPercentile,
+            @Value("${weather.api.resilience.timeout-multiplier:2.0}") double timeoutMultiplier,
+            @Value("${weather.api.resilience.timeout-min:1s}") Duration timeoutMin,
+            @Value("${weather.api.resilience.timeout-max:10s}") Duration timeoutMax,
+            @Value("${weather.api.resilience.geocoding-timeout:5s}") Duration geocodingTimeout,
+            MeterRegistry meterRegistry) {
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        CircuitBreakerRegistry breakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build());
+        
+        this.bulkhead = bulkheads.bulkhead("open-meteo");
+        this.forecastBreaker = breakers.circuitBreaker("open-meteo-forecast");
+        this.geocodingBreaker = breakers.circuitBreaker("open-meteo-geocoding");
+        this.forecastTimeout = new AdaptiveTimeout(timeoutWindow, timeoutPercentile, timeoutMultiplier,
+                timeoutMin, timeoutMax);
+        this.geocodingTimeout = geocodingTimeout;
+        
+        breakers.getAllCircuitBreakers().forEach(breaker -> breaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("Circuit breaker {}: {}",
+                        event.getCircuitBreakerName(), event.getStateTransition())));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(breakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        Gauge.builder("weather.api.timeout", forecastTimeout, timeout -> timeout.current().toMillis())
+                .description("현재 예보 API 타임아웃 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+    
+    // 예보 API 호출 보호 (타임아웃은 호출 시점의 적응형 값)
+    public <T> Mono<T> forecast(Mono<T> call) {
+        return Mono.defer(() -> {
+                    Duration timeout = forecastTimeout.current();
+                    long start = System.nanoTime();
+                    return call.timeout(timeout)
+                            .doOnSuccess(result -> forecastTimeout.record(System.nanoTime() - start))
+                            .doOnError(TimeoutException.class, e -> forecastTimeout.record(timeout.toNanos()));
+                })
+                .transformDeferred(CircuitBreakerOperator.of(forecastBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+    
+    // 지오코딩 API 호출 보호
+    public <T> Mono<T> geocoding(Mono<T> call) {
+        return call.timeout(geocodingTimeout)
+                .transformDeferred(CircuitBreakerOperator.of(geocodingBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+}
@@ -0,0 +1,377 @@
+package kr.salm.closet.service.weather;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.salm.closet.dto.WeatherResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 좌표 격자 기반 날씨 캐시
+ * - 크기 제한 (W-TinyLFU 방출) + 엔트리별 TTL
+ * - 같은 격자에 대한 동시 miss 는 업스트림 호출 하나를 공유 (single-flight)
+ * - ttl 이 지난 엔트리는 즉시 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 자주 조회되는 엔트리는 만료 직전에 미리 갱신 (refresh-ahead)
+ * - L1(인메모리) miss 시 L2(weather_cache 테이블) 조회, 시작 시 L2 로 L1 워밍업
+ * - stale-ttl 이 지난 엔트리도 last-known-ttl 까지 보관, 업스트림 장애 시 마지막 값으로 제공 (degraded)
+ * - hit/miss/eviction 지표는 Micrometer(cache.gets, cache.evictions)로 노출
+ */
+@Slf4j
+@Component
+public class WeatherCache {
+    
+    private final double gridSize;
+    private final long ttlNanos;
+    private final long staleTtlNanos;
+    private final long refreshAheadNanos;
+    private final int hotThreshold;
+    private final int warmUpSize;
+    private final WeatherCacheStore store;
+    
+    private final Cache<GridCell, CachedWeather> cache;
+    private final ConcurrentMap<GridCell, CompletableFuture<WeatherResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final Counter staleServed;
+    private final Counter refreshedAhead;
+    private final Counter degradedServed;
+    
+    public WeatherCache(@Value("${weather.cache.grid-size:0.05}") double gridSize,
+                        @Value("${weather.cache.ttl:10m}") Duration ttl,
+                        @Value("${weather.cache.stale-ttl:1h}") Duration staleTtl,
+                        @Value("${weather.cache.last-known-ttl:24h}") Duration lastKnownTtl,
+                        @Value("${weather.cache.refresh-ahead:1m}") Duration refreshAhead,
+                        @Value("${weather.cache.hot-threshold:3}") int hotThreshold,
+                        @Value("${weather.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${weather.cache.l2.warm-up-size:5000}") int warmUpSize,
+                        WeatherCacheStore store,
+                        MeterRegistry meterRegistry) {
+        if (staleTtl.compareTo(ttl) < 0) {
+            throw new IllegalArgumentException("weather.cache.stale-ttl must be >= weather.cache.ttl");
+        }
+        if (lastKnownTtl.compareTo(staleTtl) < 0) {
+            throw new IllegalArgumentException("weather.cache.last-known-ttl must be >= weather.cache.stale-ttl");
+        }
+        this.gridSize = gridSize;
+        this.ttlNanos = ttl.toNanos();
+        this.staleTtlNanos = staleTtl.toNanos();
+        this.refreshAheadNanos = refreshAhead.toNanos();
+        this.hotThreshold = hotThreshold;
+        this.warmUpSize = (int) Math.min(warmUpSize, maximumSize);
+        this.store = store;
+        
+        // last-known-ttl 까지 보관 (ttl 이후는 stale 로 제공, stale-ttl 이후는 장애 시에만 제공)
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(lastKnownTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "weather", "cache.manager", "weatherCache");
+        
+        this.coalesced = Counter.builder("weather.cache.coalesced")
+                .description("진행 중인 업스트림 호출에 합류한 요청 수")
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("weather.cache.stale")
+                .description("ttl 이 지나 백그라운드 갱신과 함께 제공된 응답 수")
+                .register(meterRegistry);
+        this.refreshedAhead = Counter.builder("weather.cache.refresh-ahead")
+                .description("만료 전 미리 갱신한 엔트리 수")
+                .register(meterRegistry);
+        this.degradedServed = Counter.builder("weather.cache.degraded")
+                .description("업스트림 실패로 마지막 값을 대신 제공한 응답 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("weather.cache.in-flight", Tags.empty(), inFlight);
+    }
+    
+    // 좌표 → 캐시 격자
+    public GridCell cellOf(double lat, double lon) {
+        return GridCell.snap(lat, lon, gridSize);
+    }
+    
+    /**
+     * 캐시 조회, 없으면 loader 로 적재
+     * 같은 격자를 동시에 조회한 요청들은 먼저 도착한 요청의 loader 결과를 함께 받는다.
+     * ttl 이 지난 엔트리는 그대로 반환하고 갱신은 백그라운드에서 진행한다.
+     * 실패 응답은 호출자에게는 전달하되 캐시하지 않는다.
+     * stale-ttl 이 지난 엔트리는 miss 로 보고 다시 적재하되, 적재가 실패하면 그 값을 degraded 로 반환한다.
+     */
+    public Mono<WeatherResponse> get(GridCell cell, Function<GridCell, Mono<WeatherResponse>> loader) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            CachedWeather cached = cache.getIfPresent(cell);
+            if (cached != null && isUsable(cached, now)) {
+                cached.hits.incrementAndGet();
+                if (isStale(cached, now)) {
+                    staleServed.increment();
+                    refreshAsync(cell, loader);
+                }
+                return Mono.just(cached.weather);
+            }
+            
+            CompletableFuture<WeatherResponse> call = new CompletableFuture<>();
+            CompletableFuture<WeatherResponse> existing = inFlight.putIfAbsent(cell, call);
+            if (existing != null) {
+                coalesced.increment();
+                // 한 호출자가 취소해도 공유 중인 호출은 유지
+                return withLastKnown(Mono.fromFuture(existing, true), cached);
+            }
+            
+            // 직전 호출이 방금 끝났을 수 있으므로 한 번 더 확인
+            CachedWeather latest = cache.policy().getIfPresentQuietly(cell);
+            if (latest != null && isUsable(latest, System.nanoTime())) {
+                inFlight.remove(cell, call);
+                call.complete(latest.weather);
+                return Mono.just(latest.weather);
+            }
+            // L1 miss → L2 → 업스트림
+            Mono<CachedWeather> source = store.find(cell)
+                    .map(stored -> new CachedWeather(stored.weather(), backdate(stored.fetchedAt())))
+                    .switchIfEmpty(Mono.defer(() -> fetchUpstream(cell, loader)));
+            return withLastKnown(Mono.fromFuture(load(cell, call, source), true), cached);
+        });
+    }
+    
+    /**
+     * 여러 격자를 한 번에 조회
+     * 캐시된 격자는 바로 응답하고, 나머지는 L2 배치 조회 후 남은 것만 batchLoader 한 번으로 가져온다.
+     * 다른 요청이 이미 조회 중인 격자는 그 결과를 공유한다.
+     * 결과 Map 은 조회 실패한 격자를 포함하지 않는다.
+     */
+    public Mono<Map<GridCell, WeatherResponse>> getAll(Collection<GridCell> cells,
+                                                       Function<List<GridCell>, Mono<List<WeatherResponse>>> batchLoader) {
+        return Mono.defer(() -> {
+            Map<GridCell, Mono<WeatherResponse>> results = new LinkedHashMap<>();
+            Map<GridCell, CompletableFuture<WeatherResponse>> owned = new LinkedHashMap<>();
+            List<GridCell> stale = new ArrayList<>();
+            long now = System.nanoTime();
+            
+            for (GridCell cell : new LinkedHashSet<>(cells)) {
+                CachedWeather cached = cache.getIfPresent(cell);
+                if (cached != null && isUsable(cached, now)) {
+                    cached.hits.incrementAndGet();
+                    if (isStale(cached, now)) {
+                        stale.add(cell);
+                    }
+                    results.put(cell, Mono.just(cached.weather));
+                    continue;
+                }
+                
+                CompletableFuture<WeatherResponse> call = new CompletableFuture<>();
+                CompletableFuture<WeatherResponse> existing = inFlight.putIfAbsent(cell, call);
+                if (existing != null) {
+                    coalesced.increment();
+                    results.put(cell, withLastKnown(Mono.fromFuture(existing, true), cached));
+                } else {
+                    owned.put(cell, call);
+                    results.put(cell, withLastKnown(Mono.fromFuture(call, true), cached));
+                }
+            }
+            
+            if (!stale.isEmpty()) {
+                staleServed.increment(stale.size());
+                refreshAllAsync(stale, batchLoader);
+            }
+            if (!owned.isEmpty()) {
+                loadAll(owned, batchLoader, true);
+            }
+            
+            // 격자 하나의 실패(L2/업스트림 에러)가 배치 전체를 실패시키지 않도록 그 격자만 결과에서 뺀다
+            return Flux.fromIterable(results.entrySet())
+                    .flatMapSequential(result -> result.getValue()
+                            .map(weather -> Map.entry(result.getKey(), weather))
+                            .onErrorResume(e -> {
+                                log.warn("Weather load failed for cell {}: {}", result.getKey().key(), e.getMessage());
+                                return Mono.empty();
+                            }))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+        });
+    }
+    
+    /**
+     * 만료가 가까운 인기 엔트리를 미리 갱신 (스케줄러에서 호출)
+     * 인기 기준은 마지막 갱신 이후 조회 수 (hot-threshold 이상)
+     */
+    public void refreshHotEntries(Function<GridCell, Mono<WeatherResponse>> loader) {
+        long now = System.nanoTime();
+        cache.asMap().forEach((cell, cached) -> {
+            long age = now - cached.fetchedAt;
+            if (cached.hits.get() >= hotThreshold && age >= ttlNanos - refreshAheadNanos) {
+                if (refreshAsync(cell, loader)) {
+                    refreshedAhead.increment();
+                }
+            }
+        });
+    }
+    
+    /**
+     * 시작 시 L2 의 최근 엔트리로 L1 을 채움 (재시작 직후 업스트림 폭주 방지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<WeatherCacheStore.StoredWeather> recent = store.loadRecent(warmUpSize);
+            recent.forEach(stored -> cache.put(stored.cell(),
+                    new CachedWeather(stored.weather(), backdate(stored.fetchedAt()))));
+            log.info("Weather cache warmed up with {} entries", recent.size());
+        } catch (Exception e) {
+            log.warn("Weather cache warm-up skipped: {}", e.getMessage());
+        }
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    private boolean isStale(CachedWeather cached, long now) {
+        return now - cached.fetchedAt >= ttlNanos;
+    }
+    
+    // stale-ttl 이내면 평소대로 제공, 그 이후는 장애 시 대체값으로만 사용
+    private boolean isUsable(CachedWeather cached, long now) {
+        return now - cached.fetchedAt < staleTtlNanos;
+    }
+    
+    // 적재 결과가 실패/empty/에러면 마지막 값을 degraded 로 표시해 반환
+    private Mono<WeatherResponse> withLastKnown(Mono<WeatherResponse> result, CachedWeather lastKnown) {
+        if (lastKnown == null) {
+            return result;
+        }
+        return result.onErrorResume(e -> Mono.empty())
+                .filter(WeatherResponse::isSuccess)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    degradedServed.increment();
+                    return lastKnown.weather.toBuilder().degraded(true).build();
+                }));
+    }
+    
+    // 이미 갱신 중이면 무시, 새로 갱신을 시작했으면 true
+    private boolean refreshAsync(GridCell cell, Function<GridCell, Mono<WeatherResponse>> loader) {
+        CompletableFuture<WeatherResponse> call = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(cell, call) != null) {
+            return false;
+        }
+        load(cell, call, Mono.defer(() -> fetchUpstream(cell, loader)));
+        return true;
+    }
+    
+    private void refreshAllAsync(List<GridCell> cells,
+                                 Function<List<GridCell>, Mono<List<WeatherResponse>>> batchLoader) {
+        Map<GridCell, CompletableFuture<WeatherResponse>> owned = new LinkedHashMap<>();
+        for (GridCell cell : cells) {
+            CompletableFuture<WeatherResponse> call = new CompletableFuture<>();
+            if (inFlight.putIfAbsent(cell, call) == null) {
+                owned.put(cell, call);
+            }
+        }
+        if (!owned.isEmpty()) {
+            loadAll(owned, batchLoader, false);
+        }
+    }
+    
+    // 여러 격자 적재 (L2 배치 조회 → 남은 격자만 업스트림 한 번), 결과는 격자별 call 로 분배
+    private void loadAll(Map<GridCell, CompletableFuture<WeatherResponse>> calls,
+                         Function<List<GridCell>, Mono<List<WeatherResponse>>> batchLoader,
+                         boolean checkStore) {
+        calls.forEach((cell, call) -> call.whenComplete((weather, e) -> inFlight.remove(cell, call)));
+        List<GridCell> cells = List.copyOf(calls.keySet());
+        
+        Mono<Map<GridCell, WeatherCacheStore.StoredWeather>> stored = checkStore
+                ? store.findAll(cells)
+                : Mono.just(Map.of());
+        stored.flatMap(found -> {
+                    found.forEach((cell, entry) -> complete(cell, calls.get(cell),
+                            new CachedWeather(entry.weather(), backdate(entry.fetchedAt()))));
+                    List<GridCell> missing = cells.stream().filter(cell -> !found.containsKey(cell)).toList();
+                    if (missing.isEmpty()) {
+                        return Mono.<List<WeatherResponse>>empty();
+                    }
+                    return batchLoader.apply(missing).doOnNext(responses -> {
+                        for (int i = 0; i < missing.size() && i < responses.size(); i++) {
+                            GridCell cell = missing.get(i);
+                            WeatherResponse weather = responses.get(i);
+                            if (weather.isSuccess()) {
+                                store.writeBehind(cell, weather);
+                            }
+                            complete(cell, calls.get(cell), new CachedWeather(weather, System.nanoTime()));
+                        }
+                    });
+                })
+                .subscribe(
+                        responses -> {},
+                        e -> calls.values().forEach(call -> call.completeExceptionally(e)),
+                        // 응답에 빠진 격자는 empty 로 완료
+                        () -> calls.values().forEach(call -> call.complete(null)));
+    }
+    
+    private void complete(GridCell cell, CompletableFuture<WeatherResponse> call, CachedWeather loaded) {
+        if (loaded.weather.isSuccess()) {
+            cache.put(cell, loaded);
+        }
+        call.complete(loaded.weather);
+    }
+    
+    // 업스트림 조회, 성공하면 L2 에도 기록 예약
+    private Mono<CachedWeather> fetchUpstream(GridCell cell, Function<GridCell, Mono<WeatherResponse>> loader) {
+        return loader.apply(cell)
+                .map(weather -> {
+                    if (weather.isSuccess()) {
+                        store.writeBehind(cell, weather);
+                    }
+                    return new CachedWeather(weather, System.nanoTime());
+                });
+    }
+    
+    // source 를 구독하고 결과를 call 로 전달 (요청 스레드를 점유하지 않음)
+    private CompletableFuture<WeatherResponse> load(GridCell cell, CompletableFuture<WeatherResponse> call,
+                                                    Mono<CachedWeather> source) {
+        call.whenComplete((weather, e) -> inFlight.remove(cell, call));
+        source.doOnNext(loaded -> {
+                    if (loaded.weather.isSuccess()) {
+                        cache.put(cell, loaded);
+                    }
+                })
+                .map(loaded -> loaded.weather)
+                .subscribe(call::complete, call::completeExceptionally, () -> call.complete(null));
+        return call;
+    }
+    
+    // 벽시계 기준 조회 시각 → nanoTime 기준 (L2 엔트리의 나이 유지)
+    private static long backdate(LocalDateTime fetchedAt) {
+        return System.nanoTime() - Duration.between(fetchedAt, LocalDateTime.now()).toNanos();
+    }
+    
+    private static final class CachedWeather {
+        
+        private final WeatherResponse weather;
+        private final long fetchedAt;
+        private final AtomicInteger hits = new AtomicInteger();
+        
+        private CachedWeather(WeatherResponse weather, long fetchedAt) {
+            this.weather = weather;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
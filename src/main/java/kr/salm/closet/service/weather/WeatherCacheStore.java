@@ -0,0 +1,210 @@
+package kr.salm.closet.service.weather;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import kr.salm.closet.domain.WeatherCacheEntry;
+import kr.salm.closet.dto.WeatherResponse;
+import kr.salm.closet.repository.WeatherCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 날씨 L2 캐시 (weather_cache 테이블)
+ * - 조회: L1 miss 시에만, 요청 스레드를 막지 않도록 boundedElastic 에서 실행
+ * - 저장: 격자별 최신 값만 모아 두었다가 주기적으로 배치 upsert (write-behind)
+ * - 정리: 만료 행을 배치 단위로 삭제
+ * DB 장애는 캐시 miss 로 취급하고 날씨 조회는 계속 진행한다.
+ */
+@Slf4j
+@Component
+public class WeatherCacheStore {
+    
+    private static final String UPSERT_SQL = """
+            INSERT INTO weather_cache (location_key, weather_data, fetched_at, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE weather_data = VALUES(weather_data),
+                                    fetched_at = VALUES(fetched_at),
+                                    expires_at = VALUES(expires_at)
+            """;
+    
+    private final WeatherCacheRepository weatherCacheRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration staleTtl;
+    private final int maxPending;
+    private final int purgeBatchSize;
+    
+    private final ConcurrentMap<GridCell, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final Counter written;
+    private final Counter dropped;
+    
+    public WeatherCacheStore(WeatherCacheRepository weatherCacheRepository,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${weather.cache.stale-ttl:1h}") Duration staleTtl,
+                             @Value("${weather.cache.l2.max-pending:5000}") int maxPending,
+                             @Value("${weather.cache.l2.purge-batch-size:1000}") int purgeBatchSize,
+                             MeterRegistry meterRegistry) {
+        this.weatherCacheRepository = weatherCacheRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.staleTtl = staleTtl;
+        this.maxPending = maxPending;
+        this.purgeBatchSize = purgeBatchSize;
+        
+        this.written = Counter.builder("weather.cache.l2.writes")
+                .description("L2 에 기록한 엔트리 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("weather.cache.l2.dropped")
+                .description("대기열이 가득 차 L2 기록을 생략한 엔트리 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("weather.cache.l2.pending", Tags.empty(), pending);
+    }
+    
+    /**
+     * 격자의 유효한 L2 엔트리 조회 (없거나 DB 오류면 empty)
+     */
+    public Mono<StoredWeather> find(GridCell cell) {
+        return Mono.fromCallable(() -> weatherCacheRepository
+                        .findByLocationKeyAndExpiresAtAfter(cell.key(), LocalDateTime.now())
+                        .map(this::toStored)
+                        .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Weather L2 lookup failed for {}: {}", cell.key(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+    
+    /**
+     * 여러 격자의 유효한 L2 엔트리를 한 번에 조회 (DB 오류면 빈 Map)
+     */
+    public Mono<Map<GridCell, StoredWeather>> findAll(Collection<GridCell> cells) {
+        List<String> keys = cells.stream().map(GridCell::key).toList();
+        return Mono.fromCallable(() -> {
+                    Map<GridCell, StoredWeather> found = new HashMap<>();
+                    for (WeatherCacheEntry entry : weatherCacheRepository
+                            .findByLocationKeyInAndExpiresAtAfter(keys, LocalDateTime.now())) {
+                        StoredWeather stored = toStored(entry);
+                        found.put(stored.cell(), stored);
+                    }
+                    return found;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Weather L2 batch lookup failed: {}", e.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+    
+    /**
+     * L2 기록 예약 (다음 flush 때 배치로 저장, 같은 격자는 최신 값만 유지)
+     */
+    public void writeBehind(GridCell cell, WeatherResponse weather) {
+        if (pending.size() >= maxPending && !pending.containsKey(cell)) {
+            dropped.increment();
+            return;
+        }
+        pending.put(cell, new PendingWrite(weather, LocalDateTime.now()));
+    }
+    
+    /**
+     * 최근 조회된 유효 엔트리 (시작 시 L1 워밍업용)
+     */
+    public List<StoredWeather> loadRecent(int limit) {
+        return weatherCacheRepository
+                .findByExpiresAtAfterOrderByFetchedAtDesc(LocalDateTime.now(), PageRequest.of(0, limit))
+                .stream()
+                .map(this::toStored)
+                .toList();
+    }
+    
+    @Scheduled(fixedDelayString = "${weather.cache.l2.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (GridCell cell : pending.keySet()) {
+            PendingWrite write = pending.remove(cell);
+            if (write == null) {
+                continue;
+            }
+            try {
+                batch.add(new Object[] {
+                        cell.key(),
+                        objectMapper.writeValueAsString(write.weather()),
+                        Timestamp.valueOf(write.fetchedAt()),
+                        Timestamp.valueOf(write.fetchedAt().plus(staleTtl))
+                });
+            } catch (JsonProcessingException e) {
+                log.warn("Cannot serialize weather for {}: {}", cell.key(), e.getMessage());
+            }
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            // 캐시 데이터라 재시도하지 않음 (다음 업스트림 조회 때 다시 기록됨)
+            log.warn("Weather L2 flush failed ({} entries): {}", batch.size(), e.getMessage());
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${weather.cache.l2.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = weatherCacheRepository.deleteExpired(now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        
+        if (total > 0) {
+            log.debug("Purged {} expired weather_cache rows", total);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private StoredWeather toStored(WeatherCacheEntry entry) {
+        try {
+            return new StoredWeather(
+                    GridCell.fromKey(entry.getLocationKey()),
+                    objectMapper.readValue(entry.getWeatherData(), WeatherResponse.class),
+                    entry.getFetchedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted weather_cache row: " + entry.getLocationKey(), e);
+        }
+    }
+    
+    public record StoredWeather(GridCell cell, WeatherResponse weather, LocalDateTime fetchedAt) {}
+    
+    private record PendingWrite(WeatherResponse weather, LocalDateTime fetchedAt) {}
+}
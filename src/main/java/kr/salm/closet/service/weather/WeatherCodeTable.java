@@ -0,0 +1,101 @@
+package kr.salm.closet.service.weather;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WMO 날씨 코드(0~99) → WeatherCondition 조회표
+ * 클래스 로딩 시 낮/밤 두 배열을 미리 만들어 두고, 조회는 배열 접근 한 번이다.
+ * 같은 내용의 WeatherCondition 은 하나의 인스턴스를 공유한다.
+ */
+public final class WeatherCodeTable {
+    
+    private static final int SIZE = 100;
+    private static final WeatherCondition[] DAY = new WeatherCondition[SIZE];
+    private static final WeatherCondition[] NIGHT = new WeatherCondition[SIZE];
+    
+    static {
+        Map<WeatherCondition, WeatherCondition> interned = new HashMap<>();
+        for (int code = 0; code < SIZE; code++) {
+            DAY[code] = interned.computeIfAbsent(build(code, true), condition -> condition);
+            NIGHT[code] = interned.computeIfAbsent(build(code, false), condition -> condition);
+        }
+    }
+    
+    private WeatherCodeTable() {}
+    
+    // 범위 밖 코드는 맑음(0)으로 취급
+    public static WeatherCondition of(int code, boolean isDay) {
+        int index = code >= 0 && code < SIZE ? code : 0;
+        return isDay ? DAY[index] : NIGHT[index];
+    }
+    
+    private static WeatherCondition build(int code, boolean isDay) {
+        return new WeatherCondition(main(code), type(code), description(code), icon(code, isDay));
+    }
+    
+    private static String main(int code) {
+        return switch (code) {
+            case 0 -> "Clear";
+            case 1, 2, 3 -> "Clouds";
+            case 45, 48 -> "Fog";
+            case 51, 53, 55, 56, 57 -> "Drizzle";
+            case 61, 63, 65, 66, 67 -> "Rain";
+            case 71, 73, 75, 77 -> "Snow";
+            case 80, 81, 82 -> "Rain";
+            case 85, 86 -> "Snow";
+            case 95, 96, 99 -> "Thunderstorm";
+            default -> "Clear";
+        };
+    }
+    
+    private static String type(int code) {
+        return switch (code) {
+            case 0, 1 -> "CLEAR";
+            case 2, 3, 45, 48 -> "CLOUDY";
+            case 51, 53, 55, 56, 57, 61, 63, 65, 66, 67, 80, 81, 82, 95, 96, 99 -> "RAINY";
+            case 71, 73, 75, 77, 85, 86 -> "SNOWY";
+            default -> "CLEAR";
+        };
+    }
+    
+    private static String description(int code) {
+        return switch (code) {
+            case 0 -> "맑음";
+            case 1 -> "대체로 맑음";
+            case 2 -> "부분적으로 흐림";
+            case 3 -> "흐림";
+            case 45 -> "안개";
+            case 48 -> "짙은 안개";
+            case 51 -> "가벼운 이슬비";
+            case 53 -> "이슬비";
+            case 55 -> "강한 이슬비";
+            case 61 -> "약한 비";
+            case 63 -> "비";
+            case 65 -> "강한 비";
+            case 71 -> "약한 눈";
+            case 73 -> "눈";
+            case 75 -> "강한 눈";
+            case 80 -> "약한 소나기";
+            case 81 -> "소나기";
+            case 82 -> "강한 소나기";
+            case 95 -> "뇌우";
+            case 96, 99 -> "우박을 동반한 뇌우";
+            default -> "맑음";
+        };
+    }
+    
+    private static String icon(int code, boolean isDay) {
+        return switch (code) {
+            case 0 -> isDay ? "☀️" : "🌙";
+            case 1, 2 -> isDay ? "🌤️" : "☁️";
+            case 3 -> "☁️";
+            case 45, 48 -> "🌫️";
+            case 51, 53, 55, 61, 63, 65, 80, 81, 82 -> "🌧️";
+            case 56, 57, 66, 67 -> "🌨️";
+            case 71, 73, 75, 77, 85, 86 -> "❄️";
+            case 95, 96, 99 -> "⛈️";
+            default -> isDay ? "☀️" : "🌙";
+        };
+    }
+}
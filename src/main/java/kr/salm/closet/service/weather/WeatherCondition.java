@@ -0,0 +1,11 @@
+package kr.salm.closet.service.weather;
+
+/**
+ * WMO 날씨 코드 하나에 대응하는 표시 정보 (불변, WeatherCodeTable 이 공유 인스턴스로 제공)
+ */
+public record WeatherCondition(
+        String main,          // Clear, Clouds, Rain, Snow 등
+        String type,          // CLEAR, CLOUDY, RAINY, SNOWY
+        String description,   // 한글 상세 설명
+        String icon           // 이모지 아이콘
+) {}
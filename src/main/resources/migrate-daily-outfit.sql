@@ -0,0 +1,14 @@
+-- 오늘의 코디 일괄 계산용 컬럼/키 추가 (schema.sql 이전 버전으로 만든 DB 에 한 번 실행)
+-- ddl-auto: validate 라 이 컬럼이 없으면 앱이 시작되지 않는다.
+-- 여러 번 실행해도 같은 결과
+
+USE closet;
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS home_lat DECIMAL(9,6) AFTER locked_until,
+    ADD COLUMN IF NOT EXISTS home_lon DECIMAL(9,6) AFTER home_lat;
+
+-- DailyOutfitJob 이 (user_id, recommended_for) 로 그날 코디를 교체/조회하므로 UNIQUE 필요 (NULL 은 중복 허용)
+ALTER TABLE outfits
+    ADD COLUMN IF NOT EXISTS recommended_for DATE AFTER rating,
+    ADD UNIQUE KEY IF NOT EXISTS uk_user_recommended (user_id, recommended_for);
@@ -0,0 +1,10 @@
+-- 키셋 페이지용 인덱스 추가 (schema.sql 이전 버전으로 만든 DB 에 한 번 실행)
+-- 여러 번 실행해도 같은 결과
+
+USE closet;
+
+ALTER TABLE clothes
+    ADD INDEX IF NOT EXISTS idx_user_active_id (user_id, is_active, id);  -- id > ? ORDER BY id
+
+ALTER TABLE outfits
+    ADD INDEX IF NOT EXISTS idx_user_id (user_id, id);  -- id < ? ORDER BY id DESC
@@ -0,0 +1,9 @@
+-- 리프레시 토큰 폐기 컬럼/인덱스 추가 (schema.sql 이전 버전으로 만든 DB 에 한 번 실행)
+-- 기존 행은 모두 유효한 토큰이므로 revoked_at 은 NULL 그대로 둔다
+-- 여러 번 실행해도 같은 결과
+
+USE closet;
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN IF NOT EXISTS revoked_at DATETIME AFTER expires_at,
+    ADD INDEX IF NOT EXISTS idx_user_revoked (user_id, revoked_at);
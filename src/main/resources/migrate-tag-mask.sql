@@ -0,0 +1,22 @@
+-- 태그 비트마스크 컬럼 추가 + 기존 행 채우기 (schema.sql 이전 버전으로 만든 DB 에 한 번 실행)
+-- 비트 = Cloth.WeatherTag / Cloth.StyleTag ordinal (enum 순서를 바꾸면 이 스크립트도 같이 바꿀 것)
+-- 여러 번 실행해도 같은 결과
+
+USE closet;
+
+ALTER TABLE clothes
+    ADD COLUMN IF NOT EXISTS weather_tag_mask INT NOT NULL DEFAULT 0 AFTER style_tags,
+    ADD COLUMN IF NOT EXISTS style_tag_mask INT NOT NULL DEFAULT 0 AFTER weather_tag_mask,
+    ADD INDEX IF NOT EXISTS idx_user_tags (user_id, is_active, weather_tag_mask, style_tag_mask);
+
+UPDATE clothes SET
+    weather_tag_mask =
+          IF(JSON_CONTAINS(weather_tags, '"sunny"'),  1, 0)   -- SUNNY
+        | IF(JSON_CONTAINS(weather_tags, '"rainy"'),  2, 0)   -- RAINY
+        | IF(JSON_CONTAINS(weather_tags, '"snowy"'),  4, 0)   -- SNOWY
+        | IF(JSON_CONTAINS(weather_tags, '"windy"'),  8, 0)   -- WINDY
+        | IF(JSON_CONTAINS(weather_tags, '"cloudy"'), 16, 0), -- CLOUDY
+    style_tag_mask =
+          IF(JSON_CONTAINS(style_tags, '"casual"'), 1, 0)     -- CASUAL
+        | IF(JSON_CONTAINS(style_tags, '"formal"'), 2, 0)     -- FORMAL
+        | IF(JSON_CONTAINS(style_tags, '"sporty"'), 4, 0);    -- SPORTY
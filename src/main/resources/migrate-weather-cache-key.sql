@@ -0,0 +1,13 @@
+-- weather_cache.location_key 를 UNIQUE 로 (write-behind upsert 가 ON DUPLICATE KEY 로 갱신하도록)
+-- schema.sql 이전 버전(idx_location 일반 인덱스)으로 만든 DB 에 앱을 멈춘 상태에서 한 번 실행
+-- 여러 번 실행해도 같은 결과
+
+USE closet;
+
+-- 같은 location_key 는 가장 나중에 들어온 행만 남김 (UNIQUE 추가 전에 중복 제거)
+DELETE older FROM weather_cache older
+JOIN weather_cache newer ON newer.location_key = older.location_key AND newer.id > older.id;
+
+ALTER TABLE weather_cache
+    DROP INDEX IF EXISTS idx_location,
+    ADD UNIQUE KEY IF NOT EXISTS uk_location (location_key);
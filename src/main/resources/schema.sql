@@ -20,6 +20,8 @@ CREATE TABLE users (
     last_login_at DATETIME,
     login_fail_count INT DEFAULT 0,
     locked_until DATETIME,
+    home_lat DECIMAL(9,6),  -- 기본 위치 (오늘의 코디 일괄 계산용)
+    home_lon DECIMAL(9,6),
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_email (email),
@@ -65,6 +67,8 @@ CREATE TABLE clothes (
     temp_max INT,  -- 적정 최고 온도
     weather_tags JSON,  -- ["sunny", "rainy", "snowy", "windy"]
     style_tags JSON,   -- ["casual", "formal", "sporty"]
+    weather_tag_mask INT NOT NULL DEFAULT 0,  -- weather_tags 비트마스크 (Cloth.WeatherTag ordinal)
+    style_tag_mask INT NOT NULL DEFAULT 0,    -- style_tags 비트마스크 (Cloth.StyleTag ordinal)
     is_favorite BOOLEAN DEFAULT FALSE,
     wear_count INT DEFAULT 0,
     last_worn_at DATE,
@@ -74,7 +78,9 @@ CREATE TABLE clothes (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (category_id) REFERENCES cloth_categories(id),
     INDEX idx_user_category (user_id, category_id),
-    INDEX idx_temp_range (temp_min, temp_max)
+    INDEX idx_user_active_id (user_id, is_active, id),  -- 키셋 페이지 (id > ? ORDER BY id)
+    INDEX idx_temp_range (temp_min, temp_max),
+    INDEX idx_user_tags (user_id, is_active, weather_tag_mask, style_tag_mask)  -- 태그 필터 (mask IN (...))
 ) ENGINE=InnoDB;
 
 -- 코디 세트 테이블
@@ -89,9 +95,12 @@ CREATE TABLE outfits (
     occasion VARCHAR(50),  -- daily, work, date, exercise
     is_ai_generated BOOLEAN DEFAULT FALSE,
     rating INT,  -- 사용자 평점 1-5
+    recommended_for DATE,  -- 오늘의 코디 날짜 (야간 일괄 추천, 그 외 NULL)
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_user_recommended (user_id, recommended_for),
+    INDEX idx_user_id (user_id, id),  -- 키셋 페이지 (id < ? ORDER BY id DESC)
     INDEX idx_user_weather (user_id, weather_type),
     INDEX idx_temp (temp_min, temp_max)
 ) ENGINE=InnoDB;
@@ -110,11 +119,11 @@ CREATE TABLE outfit_clothes (
 -- 날씨 캐시 테이블 (API 호출 최소화)
 CREATE TABLE weather_cache (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
-    location_key VARCHAR(100) NOT NULL,  -- "lat_lon" 또는 도시명
+    location_key VARCHAR(100) NOT NULL,  -- "lat_lon" (격자 좌표)
     weather_data JSON NOT NULL,
     fetched_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     expires_at DATETIME NOT NULL,
-    INDEX idx_location (location_key),
+    UNIQUE KEY uk_location (location_key),  -- write-behind upsert 용
     INDEX idx_expires (expires_at)
 ) ENGINE=InnoDB;
 
@@ -142,10 +151,12 @@ CREATE TABLE refresh_tokens (
     device_info VARCHAR(255),
     ip_address VARCHAR(45),
     expires_at DATETIME NOT NULL,
+    revoked_at DATETIME,  -- 회전/로그아웃으로 폐기 (만료 후 purge 까지 보관, 재사용 탐지)
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     UNIQUE KEY uk_token (token_hash),
-    INDEX idx_expires (expires_at)
+    INDEX idx_expires (expires_at),
+    INDEX idx_user_revoked (user_id, revoked_at)  -- 사용자 토큰 일괄 폐기
 ) ENGINE=InnoDB;
 
 -- 기본 카테고리 데이터
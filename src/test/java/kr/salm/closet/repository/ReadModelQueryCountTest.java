@@ -0,0 +1,110 @@
+package kr.salm.closet.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.salm.closet.domain.Cloth;
+import kr.salm.closet.domain.ClothCategory;
+import kr.salm.closet.domain.Outfit;
+import kr.salm.closet.domain.OutfitCloth;
+import kr.salm.closet.domain.User;
+import kr.salm.closet.dto.ClothView;
+import kr.salm.closet.dto.OutfitClothView;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 옷장/코디 목록 조회 쿼리 수가 데이터 크기와 무관한지 (N+1 회귀 방지)
+ * Hibernate 통계의 prepared statement 수로 확인한다. DB 는 내장 H2, 스키마는 엔티티로 생성.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReadModelQueryCountTest {
+    
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ClothRepository clothRepository;
+    @Autowired
+    private OutfitRepository outfitRepository;
+    
+    private Statistics statistics;
+    private User user;
+    private ClothCategory top;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = em.persist(User.builder()
+                .email("count@test.kr")
+                .passwordHash("hash")
+                .nickname("count")
+                .gender(User.Gender.OTHER)
+                .build());
+        top = em.persist(ClothCategory.builder().name("상의").layerOrder(1).build());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void wardrobeListIsSingleQuery(int size) {
+        seedClothes(size);
+        startCounting();
+        
+        List<ClothView> views = clothRepository.findViewsByUserId(user.getId());
+        
+        assertThat(views).hasSize(size).allMatch(view -> view.categoryId().equals(top.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    // 코디 헤더 1 + 코디별 옷(레이어 순서) 1
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 100})
+    void outfitListIsTwoQueries(int size) {
+        List<Cloth> clothes = seedClothes(3);
+        for (int i = 0; i < size; i++) {
+            Outfit outfit = em.persist(Outfit.builder().user(user).name("코디 " + i).build());
+            for (int layer = 0; layer < clothes.size(); layer++) {
+                em.persist(OutfitCloth.builder().outfit(outfit).cloth(clothes.get(layer)).layerOrder(layer).build());
+            }
+        }
+        startCounting();
+        
+        List<Outfit> outfits = outfitRepository.findPageBefore(user.getId(), Long.MAX_VALUE, PageRequest.of(0, size));
+        List<OutfitClothView> clothViews = outfitRepository.findClothViewsByOutfitIdIn(
+                outfits.stream().map(Outfit::getId).toList());
+        
+        assertThat(outfits).hasSize(size).allMatch(outfit -> outfit.getName().startsWith("코디"));
+        assertThat(clothViews).hasSize(size * clothes.size());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    private List<Cloth> seedClothes(int count) {
+        List<Cloth> clothes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clothes.add(em.persist(Cloth.builder().user(user).category(top).name("옷 " + i).build()));
+        }
+        return clothes;
+    }
+    
+    // 영속성 컨텍스트를 비워 캐시된 엔티티 없이 조회
+    private void startCounting() {
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,95 @@
+package kr.salm.closet.service.weather;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.salm.closet.dto.WeatherResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenMeteoClientTest {
+    
+    private static final int BATCH_SIZE = 2;
+    private static final int BATCH_CONCURRENCY = 4;
+    private static final int MAX_CONCURRENT_CALLS = 20;
+    
+    private OpenMeteoStubServer stub;
+    private OpenMeteoClient client;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = OpenMeteoStubServer.start();
+        OpenMeteoResilience resilience = new OpenMeteoResilience(MAX_CONCURRENT_CALLS, 50, Duration.ofSeconds(3),
+                Duration.ofSeconds(30), 200, 0.99, 2.0, Duration.ofSeconds(1), Duration.ofSeconds(10),
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        client = new OpenMeteoClient(WebClient.create(), resilience);
+        ReflectionTestUtils.setField(client, "baseUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(client, "geocodingUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(client, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(client, "batchConcurrency", BATCH_CONCURRENCY);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+    
+    @Test
+    void batchFetchKeepsRequestOrderAcrossChunks() {
+        List<GridCell> cells = cells(BATCH_SIZE * 2);
+        
+        List<WeatherResponse> responses = client.fetchCurrentWeather(cells).block(Duration.ofSeconds(10));
+        
+        assertThat(responses).hasSize(4).allMatch(WeatherResponse::isSuccess);
+        assertThat(responses).extracting(WeatherResponse::getTemperature).containsExactly(31, 32, 33, 34);
+        assertThat(stub.forecastLatitudes()).containsExactlyInAnyOrder("31.0,32.0", "33.0,34.0");
+    }
+    
+    // n·batch-size + 1 개면 마지막 조각은 좌표 하나 → 배열이 아닌 객체 응답도 처리해야 한다
+    @Test
+    void lastChunkWithSingleCellUsesSingleCoordinateRequest() {
+        List<GridCell> cells = cells(BATCH_SIZE * 2 + 1);
+        
+        List<WeatherResponse> responses = client.fetchCurrentWeather(cells).block(Duration.ofSeconds(10));
+        
+        assertThat(responses).hasSize(5).allMatch(WeatherResponse::isSuccess);
+        assertThat(responses).extracting(WeatherResponse::getTemperature).containsExactly(31, 32, 33, 34, 35);
+        assertThat(stub.forecastLatitudes()).containsExactlyInAnyOrder("31.0,32.0", "33.0,34.0", "35.0");
+    }
+    
+    @Test
+    void singleCellBatchUsesSingleCoordinateRequest() {
+        List<WeatherResponse> responses = client.fetchCurrentWeather(cells(1)).block(Duration.ofSeconds(10));
+        
+        assertThat(responses).singleElement().matches(WeatherResponse::isSuccess);
+        assertThat(stub.forecastLatitudes()).containsExactly("31.0");
+    }
+    
+    // bulkhead 한도보다 많은 조각도 batch-concurrency 개씩만 보내므로 거부되는 조각이 없다
+    @Test
+    void manyChunksStayWithinBulkhead() {
+        int chunks = MAX_CONCURRENT_CALLS + 5;
+        stub.delay(Duration.ofMillis(20));
+        
+        List<WeatherResponse> responses = client.fetchCurrentWeather(cells(BATCH_SIZE * chunks))
+                .block(Duration.ofSeconds(10));
+        
+        assertThat(responses).hasSize(BATCH_SIZE * chunks).allMatch(WeatherResponse::isSuccess);
+        assertThat(stub.forecastLatitudes()).hasSize(chunks);
+        assertThat(stub.maxConcurrentForecasts()).isLessThanOrEqualTo(BATCH_CONCURRENCY);
+    }
+    
+    // 위도 31, 32, ... (스텁은 temperature 로 위도를 돌려줌)
+    private static List<GridCell> cells(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new GridCell(30 + i, 127))
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package kr.salm.closet.service.weather;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.salm.closet.dto.WeatherResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스텁 서버로 Open-Meteo 장애를 재현해 보호 동작 확인
+ */
+class OpenMeteoResilienceTest {
+    
+    private static final int MAX_CONCURRENT_CALLS = 1;
+    private static final Duration TIMEOUT_MAX = Duration.ofMillis(300);
+    
+    private OpenMeteoStubServer stub;
+    private OpenMeteoClient client;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = OpenMeteoStubServer.start();
+        OpenMeteoResilience resilience = new OpenMeteoResilience(MAX_CONCURRENT_CALLS, 50, Duration.ofSeconds(3),
+                Duration.ofSeconds(30), 200, 0.99, 2.0, Duration.ofMillis(100), TIMEOUT_MAX,
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        client = new OpenMeteoClient(WebClient.create(), resilience);
+        ReflectionTestUtils.setField(client, "baseUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(client, "geocodingUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(client, "batchSize", 50);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+    
+    // 최소 호출 수(10)만큼 실패하면 circuit open → 이후 호출은 업스트림에 닿지 않고 바로 에러 응답
+    @Test
+    void circuitOpensAfterRepeatedFailures() {
+        stub.respondWith(500);
+        for (int i = 0; i < 10; i++) {
+            assertThat(fetch().isSuccess()).isFalse();
+        }
+        assertThat(stub.forecastLatitudes()).hasSize(10);
+        
+        stub.respondWith(200);
+        assertThat(fetch().isSuccess()).isFalse();
+        assertThat(stub.forecastLatitudes()).hasSize(10);
+    }
+    
+    // 샘플이 없으면 타임아웃은 timeout-max, 그보다 느린 응답은 기다리지 않는다
+    @Test
+    void slowUpstreamTimesOut() {
+        stub.delay(Duration.ofSeconds(2));
+        
+        long start = System.nanoTime();
+        WeatherResponse response = fetch();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+    }
+    
+    // bulkhead 가 가득 차면 대기 없이 실패 (업스트림 요청은 하나만)
+    @Test
+    void bulkheadRejectsCallsOverLimit() {
+        stub.delay(Duration.ofMillis(100));
+        
+        List<WeatherResponse> responses = Mono.zip(
+                        client.fetchCurrentWeather(37.5, 127.0),
+                        client.fetchCurrentWeather(35.1, 129.0))
+                .map(pair -> List.of(pair.getT1(), pair.getT2()))
+                .block(Duration.ofSeconds(10));
+        
+        assertThat(responses).filteredOn(WeatherResponse::isSuccess).hasSize(1);
+        assertThat(stub.forecastLatitudes()).hasSize(MAX_CONCURRENT_CALLS);
+    }
+    
+    private WeatherResponse fetch() {
+        return client.fetchCurrentWeather(37.5, 127.0).block(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,133 @@
+package kr.salm.closet.service.weather;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 Open-Meteo 스텁 (/forecast)
+ * 좌표 하나면 객체, 콤마로 여러 개면 배열로 응답하는 실제 API 형식을 따르고, temperature 는 위도 값을 돌려준다.
+ * 장애 재현용으로 응답 상태 코드와 지연을 바꿀 수 있다.
+ */
+class OpenMeteoStubServer implements AutoCloseable {
+    
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> forecastLatitudes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger activeForecasts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentForecasts = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile Duration delay = Duration.ZERO;
+    
+    private OpenMeteoStubServer(HttpServer server) {
+        this.server = server;
+        server.createContext("/forecast", this::forecast);
+        // 지연 응답 중에도 다른 요청을 받도록
+        server.setExecutor(executor);
+    }
+    
+    static OpenMeteoStubServer start() throws IOException {
+        OpenMeteoStubServer stub = new OpenMeteoStubServer(HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0));
+        stub.server.start();
+        return stub;
+    }
+    
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    // 받은 /forecast 요청의 latitude 파라미터 (요청 순서)
+    List<String> forecastLatitudes() {
+        return forecastLatitudes;
+    }
+    
+    // 동시에 처리 중이던 /forecast 요청 수의 최댓값
+    int maxConcurrentForecasts() {
+        return maxConcurrentForecasts.get();
+    }
+    
+    void respondWith(int status) {
+        this.status = status;
+    }
+    
+    void delay(Duration delay) {
+        this.delay = delay;
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void forecast(HttpExchange exchange) throws IOException {
+        maxConcurrentForecasts.accumulateAndGet(activeForecasts.incrementAndGet(), Math::max);
+        try {
+            respondForecast(exchange);
+        } finally {
+            activeForecasts.decrementAndGet();
+        }
+    }
+    
+    private void respondForecast(HttpExchange exchange) throws IOException {
+        String latitude = query(exchange).get("latitude");
+        forecastLatitudes.add(latitude);
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (status != 200) {
+            respond(exchange, status, "{\"error\":true}");
+            return;
+        }
+        
+        List<String> bodies = Arrays.stream(latitude.split(","))
+                .map(OpenMeteoStubServer::currentWeather)
+                .toList();
+        String body = bodies.size() == 1 ? bodies.get(0) : "[" + String.join(",", bodies) + "]";
+        respond(exchange, 200, body);
+    }
+    
+    private static String currentWeather(String latitude) {
+        return """
+                {"current_weather":{"temperature":%s,"windspeed":1.5,"weathercode":0,"is_day":1}}"""
+                .formatted(latitude);
+    }
+    
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        for (String pair : raw.split("&")) {
+            int separator = pair.indexOf('=');
+            params.put(pair.substring(0, separator),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+    
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}